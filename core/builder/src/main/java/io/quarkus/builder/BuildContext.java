@@ -2,12 +2,15 @@ package io.quarkus.builder;
 
 import static io.quarkus.builder.Execution.*;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.wildfly.common.Assert;
@@ -24,17 +27,24 @@ import io.quarkus.builder.location.Location;
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
  */
 public final class BuildContext {
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIME_SUPPORTED = isCpuTimeSupported();
+
     private final ClassLoader classLoader;
     private final StepInfo stepInfo;
     private final Execution execution;
     private final AtomicInteger dependencies;
+    private final long priority;
     private volatile boolean running;
+    private volatile StepInfo lastDependency;
+    private volatile long ready;
 
     BuildContext(ClassLoader classLoader, final StepInfo stepInfo, final Execution execution) {
         this.classLoader = classLoader;
         this.stepInfo = stepInfo;
         this.execution = execution;
         dependencies = new AtomicInteger(stepInfo.getDependencies());
+        priority = execution.getPriority(stepInfo);
     }
 
     /**
@@ -254,11 +264,21 @@ public final class BuildContext {
         }
     }
 
-    void depFinished() {
+    long getPriority() {
+        return priority;
+    }
+
+    void setReady(long ready) {
+        this.ready = ready;
+    }
+
+    void depFinished(StepInfo finished) {
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
         if (remaining == 0) {
-            execution.getExecutor().execute(this::run);
+            // the dependency finishing last is the one the step waited for
+            lastDependency = finished;
+            execution.schedule(this);
         }
     }
 
@@ -266,7 +286,10 @@ public final class BuildContext {
         final Execution execution = this.execution;
         final StepInfo stepInfo = this.stepInfo;
         final BuildStep buildStep = stepInfo.getBuildStep();
-        final long start = System.currentTimeMillis();
+        final BuildMetrics metrics = execution.getMetrics();
+        final boolean measureCpuTime = metrics != null && CPU_TIME_SUPPORTED;
+        final long start = System.nanoTime();
+        final long cpuStart = measureCpuTime ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1;
         log.tracef("Starting step \"%s\"", buildStep);
         try {
             if (!execution.isErrorReported()) {
@@ -285,16 +308,30 @@ public final class BuildContext {
                 }
             }
         } finally {
-            log.tracef("Finished step \"%s\" in %s ms", buildStep, System.currentTimeMillis() - start);
+            final long end = System.nanoTime();
+            log.tracef("Finished step \"%s\" in %s ms", buildStep, TimeUnit.NANOSECONDS.toMillis(end - start));
+            if (metrics != null) {
+                final long cpuTime = measureCpuTime ? THREAD_MX_BEAN.getCurrentThreadCpuTime() - cpuStart : -1;
+                metrics.record(stepInfo, lastDependency, Thread.currentThread().getName(), ready, start, end, cpuTime);
+            }
             execution.removeBuildContext(stepInfo, this);
         }
         final Set<StepInfo> dependents = stepInfo.getDependents();
         if (!dependents.isEmpty()) {
             for (StepInfo info : dependents) {
-                execution.getBuildContext(info).depFinished();
+                execution.getBuildContext(info).depFinished(stepInfo);
             }
         } else {
             execution.depFinished();
         }
     }
+
+    private static boolean isCpuTimeSupported() {
+        try {
+            // CPU time measurement is a JVM wide setting, it is only used when already enabled
+            return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+        } catch (UnsupportedOperationException | SecurityException e) {
+            return false;
+        }
+    }
 }
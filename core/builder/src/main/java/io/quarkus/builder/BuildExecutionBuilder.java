@@ -20,6 +20,8 @@ public final class BuildExecutionBuilder {
     private final String buildTargetName;
     private final Map<ItemId, BuildItem> initialSingle;
     private final Map<ItemId, ArrayList<BuildItem>> initialMulti;
+    private Map<String, Long> stepDurationHints = Collections.emptyMap();
+    private boolean metricsEnabled;
 
     BuildExecutionBuilder(final BuildChain buildChain, final String buildTargetName) {
         this.buildChain = buildChain;
@@ -69,6 +71,31 @@ public final class BuildExecutionBuilder {
         return this;
     }
 
+    /**
+     * Provide the expected duration of the build steps, usually measured by a previous build, keyed by step id. When
+     * more steps are ready to run than there are threads, the steps with the longest expected chain of dependent steps
+     * run first.
+     *
+     * @param stepDurationHints the durations in nanoseconds, keyed by step id (must not be {@code null})
+     * @return this builder
+     */
+    public BuildExecutionBuilder setStepDurationHints(Map<String, Long> stepDurationHints) {
+        Assert.checkNotNullParam("stepDurationHints", stepDurationHints);
+        this.stepDurationHints = stepDurationHints;
+        return this;
+    }
+
+    /**
+     * Record the timings of the build steps, see {@link BuildResult#getMetrics()}. The metrics are disabled by default.
+     *
+     * @param metricsEnabled {@code true} to record the timings of the build steps
+     * @return this builder
+     */
+    public BuildExecutionBuilder setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+        return this;
+    }
+
     /**
      * Run the build. The chain may run in one or many threads.
      *
@@ -110,6 +137,14 @@ public final class BuildExecutionBuilder {
         return initialMulti;
     }
 
+    Map<String, Long> getStepDurationHints() {
+        return stepDurationHints;
+    }
+
+    boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
     BuildChain getChain() {
         return buildChain;
     }
@@ -0,0 +1,281 @@
+package io.quarkus.builder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The timings of the build steps of an execution.
+ * <p>
+ * For each step, the time it was ready to run (all its dependencies finished), the time it started, its wall and CPU
+ * durations are recorded, all relative to the start of the execution. The critical path is the chain of steps which
+ * determined the duration of the build: it ends with the step that finished last, and each of its steps is the
+ * dependency that finished last before the next one became ready.
+ */
+public final class BuildMetrics {
+
+    private final long start;
+    private final Map<StepInfo, StepRecord> records = new ConcurrentHashMap<>();
+    private volatile long duration;
+
+    BuildMetrics(long start) {
+        this.start = start;
+    }
+
+    void record(StepInfo stepInfo, StepInfo criticalDependency, String thread, long ready, long stepStart,
+            long stepEnd, long cpuNanos) {
+        StepRecord dependency = criticalDependency != null ? records.get(criticalDependency) : null;
+        records.put(stepInfo, new StepRecord(stepInfo.getBuildStep().toString(), thread, ready - start,
+                stepStart - start, stepEnd - stepStart, cpuNanos, dependency));
+    }
+
+    void complete(long end) {
+        duration = end - start;
+    }
+
+    /**
+     * @return the records of the steps which ran, in the order they started
+     */
+    public List<StepRecord> getRecords() {
+        List<StepRecord> result = new ArrayList<>(records.values());
+        result.sort(Comparator.comparingLong(StepRecord::getStart));
+        return result;
+    }
+
+    /**
+     * @return the steps of the critical path, in execution order
+     */
+    public List<StepRecord> getCriticalPath() {
+        StepRecord last = null;
+        for (StepRecord record : records.values()) {
+            if (last == null || record.getEnd() > last.getEnd()) {
+                last = record;
+            }
+        }
+        List<StepRecord> path = new ArrayList<>();
+        for (StepRecord record = last; record != null; record = record.criticalDependency) {
+            path.add(record);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * @return the wall duration of each step, in nanoseconds, keyed by step id
+     */
+    public Map<String, Long> getStepDurations() {
+        Map<String, Long> durations = new HashMap<>(records.size());
+        for (StepRecord record : records.values()) {
+            durations.merge(record.getStepId(), record.getDuration(), Math::max);
+        }
+        return durations;
+    }
+
+    /**
+     * @return the duration of the whole execution
+     */
+    public long getDuration(TimeUnit timeUnit) {
+        return timeUnit.convert(duration, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Writes the records as a JSON document, the times being expressed in microseconds.
+     */
+    public void writeJson(Appendable out) throws IOException {
+        List<StepRecord> criticalPath = getCriticalPath();
+        Set<StepRecord> critical = new HashSet<>(criticalPath);
+        out.append("{\n  \"duration\": ").append(Long.toString(micros(duration)));
+        out.append(",\n  \"criticalPath\": [");
+        for (int i = 0; i < criticalPath.size(); i++) {
+            out.append(i == 0 ? "\n    " : ",\n    ");
+            appendJsonString(out, criticalPath.get(i).getStepId());
+        }
+        out.append("\n  ],\n  \"steps\": [");
+        boolean first = true;
+        for (StepRecord record : getRecords()) {
+            out.append(first ? "\n    {" : ",\n    {");
+            first = false;
+            out.append("\"id\": ");
+            appendJsonString(out, record.getStepId());
+            out.append(", \"thread\": ");
+            appendJsonString(out, record.getThread());
+            out.append(", \"ready\": ").append(Long.toString(micros(record.getReady())));
+            out.append(", \"start\": ").append(Long.toString(micros(record.getStart())));
+            out.append(", \"duration\": ").append(Long.toString(micros(record.getDuration())));
+            out.append(", \"cpu\": ")
+                    .append(Long.toString(record.getCpuTime() < 0 ? -1 : micros(record.getCpuTime())));
+            out.append(", \"wait\": ").append(Long.toString(micros(record.getWait())));
+            out.append(", \"critical\": ").append(Boolean.toString(critical.contains(record)));
+            out.append('}');
+        }
+        out.append("\n  ]\n}\n");
+    }
+
+    /**
+     * Writes the records as a self-contained HTML timeline, with one row per thread and the critical path highlighted.
+     */
+    public void writeHtml(Appendable out) throws IOException {
+        List<StepRecord> criticalPath = getCriticalPath();
+        Set<StepRecord> critical = new HashSet<>(criticalPath);
+        Map<String, List<StepRecord>> threads = new TreeMap<>();
+        for (StepRecord record : getRecords()) {
+            threads.computeIfAbsent(record.getThread(), t -> new ArrayList<>()).add(record);
+        }
+        double total = Math.max(1, duration);
+        out.append("<!DOCTYPE html>\n<html><head><meta charset=\"UTF-8\"><title>Build steps</title><style>\n")
+                .append("body{font-family:sans-serif;font-size:12px}\n")
+                .append(".row{position:relative;height:18px;border-bottom:1px solid #eee}\n")
+                .append(".label{position:absolute;left:0;width:120px;overflow:hidden}\n")
+                .append(".lane{position:absolute;left:120px;right:0;top:0;bottom:0}\n")
+                .append(".step{position:absolute;top:2px;height:14px;background:#7aa6da;min-width:1px}\n")
+                .append(".critical{background:#d9534f}\n")
+                .append("</style></head><body>\n");
+        out.append("<h1>Build steps</h1>\n<p>Total: ").append(Long.toString(TimeUnit.NANOSECONDS.toMillis(duration)))
+                .append(" ms, ").append(Integer.toString(records.size()))
+                .append(" steps. The critical path is highlighted.</p>\n");
+        for (Map.Entry<String, List<StepRecord>> thread : threads.entrySet()) {
+            out.append("<div class=\"row\"><span class=\"label\">");
+            appendHtml(out, thread.getKey());
+            out.append("</span><div class=\"lane\">");
+            for (StepRecord record : thread.getValue()) {
+                out.append("<div class=\"step").append(critical.contains(record) ? " critical" : "")
+                        .append("\" style=\"left:").append(percent(record.getStart(), total))
+                        .append("%;width:").append(percent(record.getDuration(), total))
+                        .append("%\" title=\"");
+                appendHtml(out, record.getStepId());
+                out.append(" - ").append(Long.toString(micros(record.getDuration()) / 1000))
+                        .append(" ms, waited ").append(Long.toString(micros(record.getWait()) / 1000))
+                        .append(" ms\"></div>");
+            }
+            out.append("</div></div>\n");
+        }
+        out.append("<h2>Critical path</h2>\n<ol>\n");
+        for (StepRecord record : criticalPath) {
+            out.append("<li>");
+            appendHtml(out, record.getStepId());
+            out.append(" (").append(Long.toString(TimeUnit.NANOSECONDS.toMillis(record.getDuration())))
+                    .append(" ms)</li>\n");
+        }
+        out.append("</ol>\n</body></html>\n");
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    private static String percent(long nanos, double total) {
+        return String.format(Locale.ROOT, "%.3f", nanos * 100 / total);
+    }
+
+    private static void appendJsonString(Appendable out, String value) throws IOException {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.append('\\').append(c);
+            } else if (c < 0x20) {
+                out.append(String.format("\\u%04x", (int) c));
+            } else {
+                out.append(c);
+            }
+        }
+        out.append('"');
+    }
+
+    private static void appendHtml(Appendable out, String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<':
+                    out.append("&lt;");
+                    break;
+                case '>':
+                    out.append("&gt;");
+                    break;
+                case '&':
+                    out.append("&amp;");
+                    break;
+                case '"':
+                    out.append("&quot;");
+                    break;
+                default:
+                    out.append(c);
+            }
+        }
+    }
+
+    /**
+     * The timings of a build step, in nanoseconds relative to the start of the execution.
+     */
+    public static final class StepRecord {
+        private final String stepId;
+        private final String thread;
+        private final long ready;
+        private final long start;
+        private final long duration;
+        private final long cpuTime;
+        private final StepRecord criticalDependency;
+
+        StepRecord(String stepId, String thread, long ready, long start, long duration, long cpuTime,
+                StepRecord criticalDependency) {
+            this.stepId = stepId;
+            this.thread = thread;
+            this.ready = ready;
+            this.start = start;
+            this.duration = duration;
+            this.cpuTime = cpuTime;
+            this.criticalDependency = criticalDependency;
+        }
+
+        public String getStepId() {
+            return stepId;
+        }
+
+        public String getThread() {
+            return thread;
+        }
+
+        /**
+         * @return the time all the dependencies of the step had finished
+         */
+        public long getReady() {
+            return ready;
+        }
+
+        public long getStart() {
+            return start;
+        }
+
+        public long getEnd() {
+            return start + duration;
+        }
+
+        public long getDuration() {
+            return duration;
+        }
+
+        /**
+         * @return the CPU time used by the step thread, or {@code -1} if not supported by the JVM
+         */
+        public long getCpuTime() {
+            return cpuTime;
+        }
+
+        /**
+         * @return the time the step waited for a thread once it was ready
+         */
+        public long getWait() {
+            return start - ready;
+        }
+    }
+}
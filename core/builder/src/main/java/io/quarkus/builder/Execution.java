@@ -5,9 +5,13 @@ import static java.util.concurrent.locks.LockSupport.*;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -26,6 +30,11 @@ final class Execution {
 
     static final Logger log = Logger.getLogger("io.quarkus.builder");
 
+    /**
+     * The duration assumed for a step without a duration hint.
+     */
+    private static final long DEFAULT_STEP_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
     private final BuildChain chain;
     private final ConcurrentHashMap<ItemId, BuildItem> singles;
     private final ConcurrentHashMap<ItemId, List<BuildItem>> multis;
@@ -36,6 +45,12 @@ final class Execution {
     private final String buildTargetName;
     private final AtomicBoolean errorReported = new AtomicBoolean();
     private final AtomicInteger lastStepCount = new AtomicInteger();
+    private final Map<String, Long> stepDurationHints;
+    private final boolean metricsEnabled;
+    private final Map<StepInfo, Long> priorities = new HashMap<>();
+    private final PriorityBlockingQueue<BuildContext> readySteps = new PriorityBlockingQueue<>(64,
+            Comparator.comparingLong(BuildContext::getPriority).reversed());
+    private volatile BuildMetrics metrics;
     private volatile Thread runningThread;
     private volatile boolean done;
 
@@ -58,6 +73,11 @@ final class Execution {
         executorBuilder.setThreadFactory(new JBossThreadFactory(new ThreadGroup("build group"), Boolean.FALSE, null, "build-%t",
                 JBossExecutors.loggingExceptionHandler(), null));
         buildTargetName = builder.getBuildTargetName();
+        stepDurationHints = builder.getStepDurationHints();
+        metricsEnabled = builder.isMetricsEnabled();
+        for (StepInfo startStep : chain.getStartSteps()) {
+            computePriority(startStep);
+        }
         executor = executorBuilder.build();
         lastStepCount.set(builder.getChain().getEndStepCount());
         if (lastStepCount.get() == 0)
@@ -76,13 +96,59 @@ final class Execution {
         contextCache.remove(stepInfo, buildContext);
     }
 
+    /**
+     * The priority of a step is the expected duration of the longest chain of steps starting with it, so that when
+     * more steps are ready than there are threads, the steps on the critical path run first.
+     */
+    private long computePriority(StepInfo stepInfo) {
+        Long priority = priorities.get(stepInfo);
+        if (priority == null) {
+            long dependents = 0;
+            for (StepInfo dependent : stepInfo.getDependents()) {
+                dependents = max(dependents, computePriority(dependent));
+            }
+            priority = stepDurationHints.getOrDefault(stepInfo.getBuildStep().toString(), DEFAULT_STEP_NANOS)
+                    + dependents;
+            priorities.put(stepInfo, priority);
+        }
+        return priority;
+    }
+
+    long getPriority(StepInfo stepInfo) {
+        return priorities.getOrDefault(stepInfo, DEFAULT_STEP_NANOS);
+    }
+
+    BuildMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Queue a step whose dependencies have all finished. The executor runs the ready step with the highest priority,
+     * not necessarily this one.
+     */
+    void schedule(BuildContext buildContext) {
+        buildContext.setReady(System.nanoTime());
+        readySteps.add(buildContext);
+        executor.execute(this::runNext);
+    }
+
+    private void runNext() {
+        final BuildContext next = readySteps.poll();
+        if (next != null) {
+            next.run();
+        }
+    }
+
     BuildResult run() throws BuildException {
         final long start = System.nanoTime();
+        if (metricsEnabled) {
+            metrics = new BuildMetrics(start);
+        }
         runningThread = Thread.currentThread();
         // run the build
         final List<StepInfo> startSteps = chain.getStartSteps();
         for (StepInfo startStep : startSteps) {
-            executor.execute(getBuildContext(startStep)::run);
+            schedule(getBuildContext(startStep));
         }
         // wait for the wrap-up
         boolean intr = false;
@@ -124,8 +190,12 @@ final class Execution {
         }
         if (lastStepCount.get() > 0)
             throw new BuildException("Extra steps left over", Collections.emptyList());
+        final long end = System.nanoTime();
+        if (metrics != null) {
+            metrics.complete(end);
+        }
         return new BuildResult(singles, multis, finalIds, Collections.unmodifiableList(diagnostics),
-                max(0, System.nanoTime() - start));
+                max(0, end - start), metrics);
     }
 
     EnhancedQueueExecutor getExecutor() {
@@ -1,11 +1,18 @@
 package io.quarkus.builder;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -23,6 +30,9 @@ public class BasicTests {
     public static final class DummyItem2 extends SimpleBuildItem {
     }
 
+    public static final class DummyItem3 extends SimpleBuildItem {
+    }
+
     @Test
     public void testSimple() throws ChainBuildException, BuildException {
         final BuildChainBuilder builder = BuildChain.builder();
@@ -41,6 +51,8 @@ public class BasicTests {
         final BuildResult result = chain.createExecutionBuilder("my-app.jar").execute();
         assertTrue(ran.get());
         assertNotNull(result.consume(DummyItem.class));
+        // the metrics are only recorded on demand
+        assertNull(result.getMetrics());
     }
 
     @Test
@@ -288,4 +300,112 @@ public class BasicTests {
         stepBuilder.build();
         builder.build();
     }
+
+    @Test
+    public void testMetrics() throws ChainBuildException, BuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        BuildStepBuilder stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem());
+            }
+
+            @Override
+            public String toString() {
+                return "first";
+            }
+        });
+        stepBuilder.produces(DummyItem.class);
+        stepBuilder.build();
+        stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem2());
+            }
+
+            @Override
+            public String toString() {
+                return "second";
+            }
+        });
+        stepBuilder.consumes(DummyItem.class);
+        stepBuilder.produces(DummyItem2.class);
+        stepBuilder.build();
+        builder.addFinal(DummyItem2.class);
+        BuildChain chain = builder.build();
+        final BuildResult result = chain.createExecutionBuilder("my-app.jar")
+                .setStepDurationHints(Collections.singletonMap("second", 1000L))
+                .setMetricsEnabled(true)
+                .execute();
+        final BuildMetrics metrics = result.getMetrics();
+        assertEquals(2, metrics.getRecords().size());
+        final List<BuildMetrics.StepRecord> criticalPath = metrics.getCriticalPath();
+        assertEquals(2, criticalPath.size());
+        assertEquals("first", criticalPath.get(0).getStepId());
+        assertEquals("second", criticalPath.get(1).getStepId());
+        assertTrue(criticalPath.get(1).getReady() >= criticalPath.get(0).getEnd());
+        assertTrue(metrics.getStepDurations().containsKey("second"));
+        final StringBuilder json = new StringBuilder();
+        try {
+            metrics.writeJson(json);
+        } catch (IOException e) {
+            fail(e);
+        }
+        assertTrue(json.indexOf("\"criticalPath\": [\n    \"first\",\n    \"second\"\n  ]") > 0, json.toString());
+    }
+
+    @Test
+    public void testStepsOnTheCriticalPathHaveTheHighestPriority() throws ChainBuildException, BuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        BuildStepBuilder stepBuilder = builder.addBuildStep(namedStep("head", context -> context.produce(new DummyItem())));
+        stepBuilder.produces(DummyItem.class);
+        stepBuilder.build();
+        stepBuilder = builder.addBuildStep(namedStep("tail", context -> context.produce(new DummyItem2())));
+        stepBuilder.consumes(DummyItem.class);
+        stepBuilder.produces(DummyItem2.class);
+        stepBuilder.build();
+        stepBuilder = builder.addBuildStep(namedStep("quick", context -> context.produce(new DummyItem3())));
+        stepBuilder.produces(DummyItem3.class);
+        stepBuilder.build();
+        builder.addFinal(DummyItem2.class);
+        builder.addFinal(DummyItem3.class);
+        BuildChain chain = builder.build();
+        // "head" is quicker than "quick", but it is followed by the longest step
+        final BuildExecutionBuilder executionBuilder = chain.createExecutionBuilder("my-app.jar")
+                .setStepDurationHints(Map.of("head", 1_000L, "tail", 1_000_000L, "quick", 10_000L));
+        final Execution execution = new Execution(executionBuilder, chain.getFinalIds());
+        StepInfo head = null;
+        StepInfo quick = null;
+        for (StepInfo startStep : chain.getStartSteps()) {
+            if (startStep.getBuildStep().toString().equals("head")) {
+                head = startStep;
+            } else {
+                quick = startStep;
+            }
+        }
+        assertNotNull(head);
+        assertNotNull(quick);
+        assertEquals(1_001_000L, execution.getPriority(head));
+        assertEquals(10_000L, execution.getPriority(quick));
+        final StepInfo tail = head.getDependents().iterator().next();
+        assertEquals(1_000_000L, execution.getPriority(tail));
+
+        final BuildResult result = execution.run();
+        assertNotNull(result.consume(DummyItem2.class));
+        assertNotNull(result.consume(DummyItem3.class));
+    }
+
+    private static BuildStep namedStep(String name, Consumer<BuildContext> action) {
+        return new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                action.accept(context);
+            }
+
+            @Override
+            public String toString() {
+                return name;
+            }
+        };
+    }
 }
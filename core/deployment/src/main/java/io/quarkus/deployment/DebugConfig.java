@@ -6,8 +6,8 @@ import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigRoot;
 
 /**
- * This is used currently only to suppress warnings about unknown properties
- * when the user supplies something like: -Dquarkus.debug.reflection=true
+ * Apart from {@code build-metrics}, which is read by the {@link QuarkusAugmentor}, this is used currently only to suppress
+ * warnings about unknown properties when the user supplies something like: -Dquarkus.debug.reflection=true
  *
  * TODO refactor code to actually use these values
  */
@@ -25,4 +25,12 @@ public class DebugConfig {
      */
     @ConfigItem
     Optional<String> generatedClassesDir;
+
+    /**
+     * If set to true, the timings of the build steps are recorded and written to the build directory
+     * (quarkus-build-metrics.json, quarkus-build-metrics.html and quarkus-build-step-timings.properties), and the timings
+     * of the previous build are used to run the build steps on the critical path first
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean buildMetrics;
 }
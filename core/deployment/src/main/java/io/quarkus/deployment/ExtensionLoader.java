@@ -134,6 +134,25 @@ public final class ExtensionLoader {
     public static Consumer<BuildChainBuilder> loadStepsFrom(ClassLoader classLoader, Properties buildSystemProps,
             ApplicationModel appModel, LaunchMode launchMode, DevModeType devModeType)
             throws IOException, ClassNotFoundException {
+        return loadStepsFrom(classLoader, buildSystemProps, appModel, launchMode, devModeType, readResult -> {
+        });
+    }
+
+    /**
+     * Load all the build steps from the given class loader.
+     *
+     * @param classLoader the class loader
+     * @param buildSystemProps the build system properties to use
+     * @param launchMode launch mode
+     * @param configConsumer the consumer of the build time configuration, called before the steps are loaded
+     * @return a consumer which adds the steps to the given chain builder
+     * @throws IOException if the class loader could not load a resource
+     * @throws ClassNotFoundException if a build step class is not found
+     */
+    public static Consumer<BuildChainBuilder> loadStepsFrom(ClassLoader classLoader, Properties buildSystemProps,
+            ApplicationModel appModel, LaunchMode launchMode, DevModeType devModeType,
+            Consumer<BuildTimeConfigurationReader.ReadResult> configConsumer)
+            throws IOException, ClassNotFoundException {
         // populate with all known types
         List<Class<?>> roots = new ArrayList<>();
         for (Class<?> clazz : ServiceUtil.classesNamedIn(classLoader, CONFIG_ROOTS_LIST)) {
@@ -185,6 +204,7 @@ public final class ExtensionLoader {
         }
 
         final BuildTimeConfigurationReader.ReadResult readResult = reader.readConfiguration(src);
+        configConsumer.accept(readResult);
         final BooleanSupplierFactoryBuildItem bsf = new BooleanSupplierFactoryBuildItem(readResult, launchMode, devModeType);
 
         Consumer<BuildChainBuilder> result = Functions.discardingConsumer();
@@ -1,15 +1,23 @@
 package io.quarkus.deployment;
 
 import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
@@ -20,6 +28,7 @@ import io.quarkus.bootstrap.model.ApplicationModel;
 import io.quarkus.builder.BuildChain;
 import io.quarkus.builder.BuildChainBuilder;
 import io.quarkus.builder.BuildExecutionBuilder;
+import io.quarkus.builder.BuildMetrics;
 import io.quarkus.builder.BuildResult;
 import io.quarkus.builder.item.BuildItem;
 import io.quarkus.deployment.builditem.AdditionalApplicationArchiveBuildItem;
@@ -42,6 +51,10 @@ public class QuarkusAugmentor {
 
     private static final Logger log = Logger.getLogger(QuarkusAugmentor.class);
 
+    private static final String METRICS_JSON_FILE = "quarkus-build-metrics.json";
+    private static final String METRICS_HTML_FILE = "quarkus-build-metrics.html";
+    private static final String STEP_TIMINGS_FILE = "quarkus-build-step-timings.properties";
+
     private final ClassLoader classLoader;
     private final ClassLoader deploymentClassLoader;
     private final PathCollection root;
@@ -98,12 +111,16 @@ public class QuarkusAugmentor {
 
             //provideCapabilities(chainBuilder);
 
+            final AtomicBoolean buildMetrics = new AtomicBoolean();
             //TODO: we load everything from the deployment class loader
             //this allows the deployment config (application.properties) to be loaded, but in theory could result
             //in additional stuff from the deployment leaking in, this is unlikely but has a bit of a smell.
             ExtensionLoader.loadStepsFrom(deploymentClassLoader,
                     buildSystemProperties == null ? new Properties() : buildSystemProperties,
-                    effectiveModel, launchMode, devModeType)
+                    effectiveModel, launchMode, devModeType, readResult -> {
+                        DebugConfig debugConfig = (DebugConfig) readResult.requireObjectForClass(DebugConfig.class);
+                        buildMetrics.set(debugConfig.buildMetrics);
+                    })
                     .accept(chainBuilder);
 
             Thread.currentThread().setContextClassLoader(classLoader);
@@ -154,7 +171,13 @@ public class QuarkusAugmentor {
             for (PathCollection i : additionalApplicationArchives) {
                 execBuilder.produce(new AdditionalApplicationArchiveBuildItem(i));
             }
+            Map<String, Long> stepDurationHints = buildMetrics.get() ? readStepDurationHints() : Collections.emptyMap();
+            execBuilder.setStepDurationHints(stepDurationHints);
+            execBuilder.setMetricsEnabled(buildMetrics.get());
             BuildResult buildResult = execBuilder.execute();
+            if (buildMetrics.get()) {
+                writeBuildMetrics(buildResult.getMetrics(), stepDurationHints);
+            }
             String message = "Quarkus augmentation completed in " + (System.currentTimeMillis() - time) + "ms";
             if (launchMode == LaunchMode.NORMAL) {
                 log.info(message);
@@ -178,6 +201,61 @@ public class QuarkusAugmentor {
         }
     }
 
+    /**
+     * @return the step durations measured by the previous build, used to run the steps of the critical path first
+     */
+    private Map<String, Long> readStepDurationHints() {
+        if (targetDir == null) {
+            return Collections.emptyMap();
+        }
+        Path timings = targetDir.resolve(STEP_TIMINGS_FILE);
+        if (!Files.isRegularFile(timings)) {
+            return Collections.emptyMap();
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(timings, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            log.debugf(e, "Unable to read the build step timings from %s", timings);
+            return Collections.emptyMap();
+        }
+        Map<String, Long> hints = new HashMap<>(properties.size());
+        for (String step : properties.stringPropertyNames()) {
+            try {
+                hints.put(step, Long.parseLong(properties.getProperty(step)));
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return hints;
+    }
+
+    private void writeBuildMetrics(BuildMetrics metrics, Map<String, Long> previousDurations) {
+        if (targetDir == null || metrics == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(targetDir);
+            try (Writer writer = Files.newBufferedWriter(targetDir.resolve(METRICS_JSON_FILE), StandardCharsets.UTF_8)) {
+                metrics.writeJson(writer);
+            }
+            try (Writer writer = Files.newBufferedWriter(targetDir.resolve(METRICS_HTML_FILE), StandardCharsets.UTF_8)) {
+                metrics.writeHtml(writer);
+            }
+            // keep the timings of the steps which did not run this time, e.g. the ones specific to another launch mode
+            Map<String, Long> durations = new HashMap<>(previousDurations);
+            durations.putAll(metrics.getStepDurations());
+            Properties properties = new Properties();
+            for (Map.Entry<String, Long> entry : durations.entrySet()) {
+                properties.setProperty(entry.getKey(), Long.toString(entry.getValue()));
+            }
+            try (Writer writer = Files.newBufferedWriter(targetDir.resolve(STEP_TIMINGS_FILE), StandardCharsets.UTF_8)) {
+                properties.store(writer, "Duration of the build steps in nanoseconds");
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Unable to write the build metrics to %s", targetDir);
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
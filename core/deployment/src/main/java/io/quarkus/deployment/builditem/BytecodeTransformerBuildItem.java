@@ -1,5 +1,11 @@
 package io.quarkus.deployment.builditem;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiFunction;
@@ -44,6 +50,18 @@ public final class BytecodeTransformerBuildItem extends MultiBuildItem {
 
     final boolean continueOnFailure;
 
+    /**
+     * A key identifying the transformation applied by this transformer, or {@code null} if the transformation cannot be
+     * identified.
+     * <p>
+     * When all the transformers of a class have a key, the transformed bytes are cached in the build directory and
+     * reused by the following builds as long as the original class bytes and the keys are unchanged. The key must
+     * therefore change whenever the transformer could produce different bytes for the same input, e.g. it should
+     * contain the {@linkplain #cacheKeyOf(Class) code of the transformer} and any configuration or build state the
+     * transformation depends on.
+     */
+    final String cacheKey;
+
     public BytecodeTransformerBuildItem(String classToTransform,
             BiFunction<String, ClassVisitor, ClassVisitor> visitorFunction) {
         this(classToTransform, visitorFunction, null);
@@ -81,6 +99,7 @@ public final class BytecodeTransformerBuildItem extends MultiBuildItem {
         this.inputTransformer = null;
         this.classReaderOptions = 0;
         this.continueOnFailure = false;
+        this.cacheKey = null;
     }
 
     public BytecodeTransformerBuildItem(Builder builder) {
@@ -92,6 +111,7 @@ public final class BytecodeTransformerBuildItem extends MultiBuildItem {
         this.inputTransformer = builder.inputTransformer;
         this.classReaderOptions = builder.classReaderOptions;
         this.continueOnFailure = builder.continueOnFailure;
+        this.cacheKey = builder.cacheKey;
         if (visitorFunction == null && inputTransformer == null) {
             throw new IllegalArgumentException("One of either visitorFunction or inputTransformer must be set");
         }
@@ -129,6 +149,50 @@ public final class BytecodeTransformerBuildItem extends MultiBuildItem {
         return continueOnFailure;
     }
 
+    public String getCacheKey() {
+        return cacheKey;
+    }
+
+    /**
+     * Computes a key identifying the code of a transformer, i.e. a hash of the bytes of the given class and of all the
+     * classes nested in the same top level class. Unlike the version of the extension, which stays the same across
+     * snapshot builds, it changes whenever the transformer is modified.
+     *
+     * @param transformerClass the class implementing the transformation
+     * @return the key, or {@code null} if the bytes of one of the classes cannot be read
+     */
+    public static String cacheKeyOf(Class<?> transformerClass) {
+        Class<?> host = transformerClass.getNestHost();
+        ClassLoader classLoader = host.getClassLoader();
+        if (classLoader == null) {
+            return null;
+        }
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        // the nest members include the host, as well as the anonymous and local classes
+        Class<?>[] members = host.getNestMembers();
+        Arrays.sort(members, Comparator.comparing(Class::getName));
+        for (Class<?> member : members) {
+            try (InputStream in = classLoader.getResourceAsStream(member.getName().replace('.', '/') + ".class")) {
+                if (in == null) {
+                    return null;
+                }
+                digest.update(in.readAllBytes());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        StringBuilder key = new StringBuilder(host.getName()).append(':');
+        for (byte b : digest.digest()) {
+            key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return key.toString();
+    }
+
     public static class Builder {
         public BiFunction<String, byte[], byte[]> inputTransformer;
         public boolean continueOnFailure;
@@ -138,6 +202,7 @@ public final class BytecodeTransformerBuildItem extends MultiBuildItem {
         private boolean eager = false;
         private boolean cacheable = false;
         private int classReaderOptions = 0;
+        private String cacheKey;
 
         public Builder setContinueOnFailure(boolean continueOnFailure) {
             this.continueOnFailure = continueOnFailure;
@@ -179,6 +244,11 @@ public final class BytecodeTransformerBuildItem extends MultiBuildItem {
             return this;
         }
 
+        public Builder setCacheKey(String cacheKey) {
+            this.cacheKey = cacheKey;
+            return this;
+        }
+
         public BytecodeTransformerBuildItem build() {
             return new BytecodeTransformerBuildItem(this);
         }
@@ -13,9 +13,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import org.jboss.jandex.CompositeIndex;
 import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
@@ -36,6 +40,7 @@ import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.QuarkusBuildCloseablesBuildItem;
 import io.quarkus.deployment.configuration.ClassLoadingConfig;
+import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.maven.dependency.ArtifactKey;
 import io.quarkus.maven.dependency.GACT;
@@ -57,8 +62,12 @@ public class ApplicationArchiveBuildStep {
 
     private static final Logger LOGGER = Logger.getLogger(ApplicationArchiveBuildStep.class);
 
+    private static final String INDEX_CACHE_DIRECTORY = "quarkus-index-cache";
+
     IndexDependencyConfiguration config;
 
+    IndexCacheConfiguration indexCacheConfig;
+
     @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
     static final class IndexDependencyConfiguration {
         /**
@@ -72,6 +81,16 @@ public class ApplicationArchiveBuildStep {
         Map<String, IndexDependencyConfig> indexDependency;
     }
 
+    @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+    static final class IndexCacheConfiguration {
+        /**
+         * Whether the indexes computed for the dependencies that do not contain a Jandex index should be cached in the
+         * build directory, so they are only computed again when the dependency changes.
+         */
+        @ConfigItem(defaultValue = "true")
+        boolean enabled;
+    }
+
     @BuildStep
     void addConfiguredIndexedDependencies(BuildProducer<IndexDependencyBuildItem> indexDependencyBuildItemBuildProducer) {
         for (IndexDependencyConfig indexDependencyConfig : config.indexDependency.values()) {
@@ -89,6 +108,7 @@ public class ApplicationArchiveBuildStep {
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
             LiveReloadBuildItem liveReloadContext,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
+            BuildSystemTargetBuildItem buildSystemTarget,
             ClassLoadingConfig classLoadingConfig) throws IOException {
 
         IndexCache indexCache = liveReloadContext.getContextObject(IndexCache.class);
@@ -102,9 +122,15 @@ public class ApplicationArchiveBuildStep {
             removedResources.put(new GACT(entry.getKey().split(":")), entry.getValue());
         }
 
-        List<ApplicationArchive> applicationArchives = scanForOtherIndexes(buildCloseables,
-                appMarkers, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache,
-                curateOutcomeBuildItem, removedResources);
+        PersistentIndexCache persistentIndexCache = indexCacheConfig.enabled
+                ? new PersistentIndexCache(buildSystemTarget.getOutputDirectory().resolve(INDEX_CACHE_DIRECTORY))
+                : null;
+        List<ApplicationArchive> applicationArchives;
+        try (DependencyIndexer indexer = new DependencyIndexer(indexCache, persistentIndexCache)) {
+            scanForOtherIndexes(buildCloseables, appMarkers, root, additionalApplicationArchiveBuildItem,
+                    indexDependencyBuildItems, indexer, curateOutcomeBuildItem, removedResources);
+            applicationArchives = indexer.complete();
+        }
 
         final OpenPathTree tree;
         if (root.getRootDirectories().size() == 1) {
@@ -124,14 +150,13 @@ public class ApplicationArchiveBuildStep {
                 applicationArchives);
     }
 
-    private List<ApplicationArchive> scanForOtherIndexes(QuarkusBuildCloseablesBuildItem buildCloseables,
+    private void scanForOtherIndexes(QuarkusBuildCloseablesBuildItem buildCloseables,
             List<AdditionalApplicationArchiveMarkerBuildItem> appMarkers,
             ArchiveRootBuildItem root, List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchives,
-            List<IndexDependencyBuildItem> indexDependencyBuildItem, IndexCache indexCache,
+            List<IndexDependencyBuildItem> indexDependencyBuildItem, DependencyIndexer indexer,
             CurateOutcomeBuildItem curateOutcomeBuildItem, Map<ArtifactKey, Set<String>> removedResources)
             throws IOException {
 
-        List<ApplicationArchive> appArchives = new ArrayList<>();
         Set<Path> indexedPaths = new HashSet<>();
 
         //get paths that are included via marker files
@@ -141,28 +166,23 @@ public class ApplicationArchiveBuildStep {
             markers.add(marker.endsWith("/") ? marker.substring(0, marker.length() - 1) : marker);
         }
         markers.add(IndexingUtil.JANDEX_INDEX);
-        addMarkerFilePaths(markers, root, curateOutcomeBuildItem, indexedPaths, appArchives, buildCloseables,
-                indexCache, removedResources);
+        addMarkerFilePaths(markers, root, curateOutcomeBuildItem, indexedPaths, indexer, removedResources);
 
         //get paths that are included via index-dependencies
-        addIndexDependencyPaths(indexDependencyBuildItem, root, indexedPaths, appArchives, buildCloseables,
-                indexCache, curateOutcomeBuildItem, removedResources);
+        addIndexDependencyPaths(indexDependencyBuildItem, root, indexedPaths, buildCloseables,
+                indexer, curateOutcomeBuildItem, removedResources);
 
         for (AdditionalApplicationArchiveBuildItem i : additionalApplicationArchives) {
             for (Path apPath : i.getResolvedPaths()) {
                 if (!root.getResolvedPaths().contains(apPath) && indexedPaths.add(apPath)) {
-                    appArchives.add(createApplicationArchive(buildCloseables, indexCache, apPath, null,
-                            removedResources));
+                    addApplicationArchive(buildCloseables, indexer, apPath, null, removedResources);
                 }
             }
         }
-
-        return appArchives;
     }
 
     private void addIndexDependencyPaths(List<IndexDependencyBuildItem> indexDependencyBuildItems, ArchiveRootBuildItem root,
-            Set<Path> indexedDeps, List<ApplicationArchive> appArchives,
-            QuarkusBuildCloseablesBuildItem buildCloseables, IndexCache indexCache,
+            Set<Path> indexedDeps, QuarkusBuildCloseablesBuildItem buildCloseables, DependencyIndexer indexer,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
             Map<ArtifactKey, Set<String>> removedResources) {
         if (indexDependencyBuildItems.isEmpty()) {
@@ -188,8 +208,7 @@ public class ApplicationArchiveBuildStep {
                 for (Path path : artifact.getContentTree().getRoots()) {
                     if (!root.isExcludedFromIndexing(path) && !root.getResolvedPaths().contains(path)
                             && indexedDeps.add(path)) {
-                        appArchives.add(createApplicationArchive(buildCloseables, indexCache, path, key,
-                                removedResources));
+                        addApplicationArchive(buildCloseables, indexer, path, key, removedResources);
                     }
                 }
             }
@@ -198,27 +217,23 @@ public class ApplicationArchiveBuildStep {
         }
     }
 
-    private static ApplicationArchive createApplicationArchive(QuarkusBuildCloseablesBuildItem buildCloseables,
-            IndexCache indexCache, Path dep, ArtifactKey artifactKey, Map<ArtifactKey, Set<String>> removedResources)
+    private static void addApplicationArchive(QuarkusBuildCloseablesBuildItem buildCloseables,
+            DependencyIndexer indexer, Path dep, ArtifactKey artifactKey, Map<ArtifactKey, Set<String>> removedResources)
             throws IOException {
         LOGGER.debugf("Indexing dependency: %s", dep);
         final Set<String> removed = removedResources.get(artifactKey);
-        final OpenPathTree openTree;
-        final IndexView index;
         if (Files.isDirectory(dep)) {
-            openTree = new DirectoryPathTree(dep);
-            index = indexPathTree(openTree, removed);
+            final OpenPathTree openTree = new DirectoryPathTree(dep);
+            indexer.add(openTree, artifactKey, () -> indexPathTree(openTree, removed));
         } else {
-            openTree = buildCloseables.add(PathTree.ofArchive(dep).open());
-            index = handleJarPath(dep, indexCache, removed);
+            final OpenPathTree openTree = buildCloseables.add(PathTree.ofArchive(dep).open());
+            indexer.addJar(dep, openTree, artifactKey, removed, () -> IndexingUtil.indexJar(dep, removed));
         }
-        return new ApplicationArchiveImpl(index, openTree, artifactKey);
     }
 
     private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
             ArchiveRootBuildItem root, CurateOutcomeBuildItem curateOutcomeBuildItem, Set<Path> indexedPaths,
-            List<ApplicationArchive> appArchives, QuarkusBuildCloseablesBuildItem buildCloseables,
-            IndexCache indexCache, Map<ArtifactKey, Set<String>> removed)
+            DependencyIndexer indexer, Map<ArtifactKey, Set<String>> removed)
             throws IOException {
         final QuarkusClassLoader cl = ((QuarkusClassLoader) Thread.currentThread().getContextClassLoader());
         final Set<ArtifactKey> indexedElements = new HashSet<>();
@@ -245,37 +260,18 @@ public class ApplicationArchiveBuildStep {
                         if (root.isExcludedFromIndexing(rootPath)) {
                             return null;
                         }
-                        Index index = indexCache.cache.get(rootPath);
-                        if (index == null) {
-                            try {
-                                index = IndexingUtil.indexTree(tree,
-                                        dependencyKey == null ? Collections.emptySet() : removed.get(dependencyKey));
-                            } catch (IOException ioe) {
-                                throw new UncheckedIOException(ioe);
-                            }
-                            indexCache.cache.put(rootPath, index);
-                        }
-                        appArchives.add(new ApplicationArchiveImpl(index, tree, dependencyKey));
+                        final Set<String> removedFromJar = dependencyKey == null ? Collections.emptySet()
+                                : removed.get(dependencyKey);
+                        indexer.addJar(rootPath, tree, dependencyKey, removedFromJar,
+                                () -> IndexingUtil.indexTree(tree, removedFromJar));
                         return null;
                     }
 
-                    final ApplicationArchive archive = tree.apply(marker, visit -> {
-                        if (visit == null || root.isExcludedFromIndexing(visit.getRoot())) {
-                            return null;
-                        }
-                        final List<IndexView> indexes = new ArrayList<>(tree.getRoots().size());
-                        try {
-                            indexes.add(indexPathTree(tree, removed.get(dependencyKey)));
-                        } catch (IOException e) {
-                            throw new UncheckedIOException(e);
+                    tree.accept(marker, visit -> {
+                        if (visit != null && !root.isExcludedFromIndexing(visit.getRoot())) {
+                            indexer.add(tree, dependencyKey, () -> indexPathTree(tree, removed.get(dependencyKey)));
                         }
-                        return new ApplicationArchiveImpl(
-                                indexes.size() == 1 ? indexes.get(0) : CompositeIndex.create(indexes),
-                                tree, dependencyKey);
                     });
-                    if (archive != null) {
-                        appArchives.add(archive);
-                    }
                     return null;
                 });
             }
@@ -305,24 +301,104 @@ public class ApplicationArchiveBuildStep {
         return indexer.complete();
     }
 
-    private static Index handleJarPath(Path path, IndexCache indexCache, Set<String> removed) {
-        return indexCache.cache.computeIfAbsent(path, new Function<Path, Index>() {
-            @Override
-            public Index apply(Path path) {
+    /**
+     * When running in hot deployment mode we know that java archives will never change, there is no need
+     * to re-index them each time. We cache them here to reduce the hot reload time.
+     */
+    private static final class IndexCache {
+        final Map<Path, Index> cache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Indexes the application archives in parallel, the archives being returned in the order they were added.
+     * <p>
+     * The indexes of jars are looked up in the in-memory cache first, which is only populated in dev mode, then in the
+     * persistent cache for the jars that do not contain a Jandex index.
+     */
+    private static final class DependencyIndexer implements AutoCloseable {
+
+        private final IndexCache indexCache;
+        private final PersistentIndexCache persistentIndexCache;
+        private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        private final List<PendingArchive> archives = new ArrayList<>();
+        private final AtomicInteger indexedJars = new AtomicInteger();
+        private final AtomicInteger cachedJars = new AtomicInteger();
+        private final long start = System.nanoTime();
+
+        DependencyIndexer(IndexCache indexCache, PersistentIndexCache persistentIndexCache) {
+            this.indexCache = indexCache;
+            this.persistentIndexCache = persistentIndexCache;
+        }
+
+        void add(OpenPathTree tree, ArtifactKey key, Callable<IndexView> indexer) {
+            archives.add(new PendingArchive(tree, key, pool.submit(indexer)));
+        }
+
+        void addJar(Path jar, OpenPathTree tree, ArtifactKey key, Set<String> removed, Callable<Index> indexer) {
+            add(tree, key, () -> indexJar(jar, tree, removed, indexer));
+        }
+
+        private Index indexJar(Path jar, OpenPathTree tree, Set<String> removed, Callable<Index> indexer)
+                throws Exception {
+            Index index = indexCache.cache.get(jar);
+            if (index != null) {
+                return index;
+            }
+            // the jars shipping an index are fast to read already, only the computed indexes are persisted
+            boolean persistent = persistentIndexCache != null
+                    && (removed != null || !tree.contains(IndexingUtil.JANDEX_INDEX));
+            if (persistent) {
+                index = persistentIndexCache.read(jar, removed);
+            }
+            if (index != null) {
+                cachedJars.incrementAndGet();
+            } else {
                 try {
-                    return IndexingUtil.indexJar(path, removed);
+                    index = indexer.call();
                 } catch (IOException e) {
-                    throw new RuntimeException("Failed to process " + path, e);
+                    throw new UncheckedIOException("Failed to process " + jar, e);
+                }
+                if (persistent) {
+                    indexedJars.incrementAndGet();
+                    persistentIndexCache.write(jar, removed, index);
                 }
             }
-        });
+            Index existing = indexCache.cache.putIfAbsent(jar, index);
+            return existing != null ? existing : index;
+        }
+
+        List<ApplicationArchive> complete() {
+            List<ApplicationArchive> result = new ArrayList<>(archives.size());
+            for (PendingArchive archive : archives) {
+                result.add(new ApplicationArchiveImpl(archive.index.join(), archive.tree, archive.key));
+            }
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (indexedJars.get() > 0) {
+                LOGGER.infof("Indexed %d dependencies without a Jandex index in %d ms (%d read from the index cache)",
+                        indexedJars.get(), elapsed, cachedJars.get());
+            } else {
+                LOGGER.debugf("Indexed %d application archives in %d ms (%d read from the index cache)",
+                        result.size(), elapsed, cachedJars.get());
+            }
+            return result;
+        }
+
+        @Override
+        public void close() {
+            pool.shutdownNow();
+        }
     }
 
-    /**
-     * When running in hot deployment mode we know that java archives will never change, there is no need
-     * to re-index them each time. We cache them here to reduce the hot reload time.
-     */
-    private static final class IndexCache {
-        final Map<Path, Index> cache = new HashMap<>();
+    private static final class PendingArchive {
+
+        final OpenPathTree tree;
+        final ArtifactKey key;
+        final ForkJoinTask<IndexView> index;
+
+        PendingArchive(OpenPathTree tree, ArtifactKey key, ForkJoinTask<IndexView> index) {
+            this.tree = tree;
+            this.key = key;
+            this.index = index;
+        }
     }
 }
@@ -0,0 +1,147 @@
+package io.quarkus.deployment.index;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+import io.quarkus.runtime.util.HashUtil;
+
+/**
+ * An on-disk cache of the indexes computed for the dependency jars that do not ship a Jandex index.
+ * <p>
+ * Entries are stored in the build directory, one file per jar and set of removed resources. Each entry records the
+ * size and last modification time of the jar it was computed from, so an entry is only used as long as the jar is
+ * unchanged. Entries are read through a memory mapping of the file, and written to a temporary file which is then
+ * moved in place, so concurrent builds never observe a partially written entry.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger LOGGER = Logger.getLogger(PersistentIndexCache.class);
+
+    private static final int MAGIC = 0x51494458;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8;
+
+    private final Path directory;
+
+    PersistentIndexCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @return the cached index, or {@code null} if there is no entry or the jar has changed since it was written
+     */
+    Index read(Path jar, Set<String> removed) {
+        Path entry = entryPath(jar, removed);
+        if (!Files.isRegularFile(entry)) {
+            return null;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(entry, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION
+                    || buffer.getLong() != attributes.size()
+                    || buffer.getLong() != attributes.lastModifiedTime().toMillis()) {
+                return null;
+            }
+            return new IndexReader(new ByteBufferInputStream(buffer)).read();
+        } catch (IOException | RuntimeException e) {
+            // a corrupted entry is not fatal, the jar is indexed again and the entry overwritten
+            LOGGER.debugf(e, "Unable to read the cached index of %s", jar);
+            return null;
+        }
+    }
+
+    void write(Path jar, Set<String> removed, Index index) {
+        Path entry = entryPath(jar, removed);
+        Path tmp = null;
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, entry.getFileName().toString(), ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                DataOutputStream header = new DataOutputStream(out);
+                header.writeInt(MAGIC);
+                header.writeInt(FORMAT_VERSION);
+                header.writeLong(attributes.size());
+                header.writeLong(attributes.lastModifiedTime().toMillis());
+                new IndexWriter(out).write(index);
+            }
+            Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            tmp = null;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debugf(e, "Unable to cache the index of %s", jar);
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private Path entryPath(Path jar, Set<String> removed) {
+        StringBuilder key = new StringBuilder(jar.toAbsolutePath().normalize().toString());
+        if (removed != null) {
+            // the removed resources change the content of the index, the set is sorted for a stable key
+            key.append('!');
+            for (String resource : new TreeSet<>(removed)) {
+                key.append(resource).append(',');
+            }
+        }
+        return directory.resolve(HashUtil.sha1(key.toString()) + ".idx");
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -25,6 +25,8 @@ public class LoggingWithPanacheProcessor {
 
     private static final String JBOSS_LOGGER_BINARY_NAME = "org/jboss/logging/Logger";
     private static final String JBOSS_LOGGER_DESCRIPTOR = "L" + JBOSS_LOGGER_BINARY_NAME + ";";
+
+    private static final String CACHE_KEY = BytecodeTransformerBuildItem.cacheKeyOf(LoggingWithPanacheProcessor.class);
     private static final String GET_LOGGER_DESCRIPTOR = "(Ljava/lang/String;)" + JBOSS_LOGGER_DESCRIPTOR;
 
     @BuildStep
@@ -36,6 +38,8 @@ public class LoggingWithPanacheProcessor {
                     .setClassToTransform(className)
                     .setVisitorFunction((ignored, visitor) -> new AddLoggerFieldAndRewriteInvocations(visitor, className))
                     .setClassReaderOptions(ClassReader.EXPAND_FRAMES)
+                    // the transformation only depends on the class itself
+                    .setCacheKey(CACHE_KEY)
                     .build());
         }
     }
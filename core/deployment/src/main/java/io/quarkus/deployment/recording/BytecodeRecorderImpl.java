@@ -144,6 +144,12 @@ public class BytecodeRecorderImpl implements RecorderContext {
      */
     private static final int MAX_INSTRUCTION_GROUPS = 300;
 
+    /**
+     * the maximum number of split methods a method invokes. Each invocation takes 6 bytes, so this keeps the methods
+     * below the 8000 bytes above which HotSpot does not compile a method.
+     */
+    private static final int MAX_METHOD_INVOCATIONS = 1000;
+
     private int deferredParameterCount = 0;
     private boolean loadComplete;
 
@@ -880,17 +886,24 @@ public class BytecodeRecorderImpl implements RecorderContext {
                         components[i].prepare(context);
                     }
                     super.doPrepare(context);
+                    //every element is stored in its own instruction group, so large arrays can be split over several
+                    //methods like collections are
+                    DeferredArrayStoreParameter out = this;
+                    for (int i = 0; i < length; ++i) {
+                        int index = i;
+                        context.writeInstruction(new InstructionGroup() {
+                            @Override
+                            public void write(MethodContext context, MethodCreator method, ResultHandle array) {
+                                method.writeArrayValue(context.loadDeferred(out), index,
+                                        context.loadDeferred(components[index]));
+                            }
+                        });
+                    }
                 }
 
                 @Override
                 ResultHandle createValue(MethodContext context, MethodCreator method, ResultHandle array) {
-                    //TODO large arrays can still generate a fair bit of bytecode, and there appears to be a gizmo issue that prevents casting to an array
-                    //fix this later
-                    ResultHandle out = method.newArray(expectedType.getComponentType(), length);
-                    for (int i = 0; i < length; ++i) {
-                        method.writeArrayValue(out, i, context.loadDeferred(components[i]));
-                    }
-                    return out;
+                    return method.newArray(expectedType.getComponentType(), length);
                 }
             };
         } else if (param instanceof AnnotationProxy) {
@@ -2045,6 +2058,9 @@ public class BytecodeRecorderImpl implements RecorderContext {
         int methodCount;
         int currentCount;
         MethodCreator currentMethod;
+        int dispatchMethodCount;
+        int dispatchCount;
+        MethodCreator dispatchMethod;
         Map<Integer, ResultHandle> currentMethodCache = new HashMap<>();
 
         SplitMethodContext(ResultHandle deferredParameterArray, MethodCreator mainMethod, ClassCreator classCreator) {
@@ -2075,8 +2091,24 @@ public class BytecodeRecorderImpl implements RecorderContext {
             currentCount = 0;
             currentMethod = classCreator.getMethodCreator(mainMethod.getMethodDescriptor().getName() + "_" + (methodCount++),
                     mainMethod.getMethodDescriptor().getReturnType(), StartupContext.class, Object[].class);
-            mainMethod.invokeVirtualMethod(currentMethod.getMethodDescriptor(), mainMethod.getThis(),
-                    mainMethod.getMethodParam(0), deferredParameterArray);
+            if (methodCount <= MAX_METHOD_INVOCATIONS) {
+                mainMethod.invokeVirtualMethod(currentMethod.getMethodDescriptor(), mainMethod.getThis(),
+                        mainMethod.getMethodParam(0), deferredParameterArray);
+            } else {
+                //the main method would get too large to be compiled, so the methods are invoked from intermediate
+                //methods instead, which are themselves invoked in order from the main method
+                if (dispatchMethod == null || dispatchCount++ >= MAX_METHOD_INVOCATIONS) {
+                    dispatchCount = 1;
+                    dispatchMethod = classCreator.getMethodCreator(
+                            mainMethod.getMethodDescriptor().getName() + "_dispatch_" + (dispatchMethodCount++),
+                            mainMethod.getMethodDescriptor().getReturnType(), StartupContext.class, Object[].class);
+                    mainMethod.invokeVirtualMethod(dispatchMethod.getMethodDescriptor(), mainMethod.getThis(),
+                            mainMethod.getMethodParam(0), deferredParameterArray);
+                    allMethods.add(dispatchMethod);
+                }
+                dispatchMethod.invokeVirtualMethod(currentMethod.getMethodDescriptor(), dispatchMethod.getThis(),
+                        dispatchMethod.getMethodParam(0), dispatchMethod.getMethodParam(1));
+            }
             currentMethodCache = new HashMap<>();
             allMethods.add(currentMethod);
         }
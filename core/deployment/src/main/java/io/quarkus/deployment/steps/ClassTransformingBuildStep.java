@@ -22,6 +22,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
@@ -47,22 +48,40 @@ import io.quarkus.deployment.builditem.TransformedClassesBuildItem;
 import io.quarkus.deployment.configuration.ClassLoadingConfig;
 import io.quarkus.deployment.index.ConstPoolScanner;
 import io.quarkus.deployment.pkg.PackageConfig;
+import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.maven.dependency.ArtifactKey;
 import io.quarkus.maven.dependency.GACT;
 import io.quarkus.maven.dependency.ResolvedDependency;
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
 
 public class ClassTransformingBuildStep {
 
     private static final Logger log = Logger.getLogger(ClassTransformingBuildStep.class);
 
+    private static final String TRANSFORMATION_CACHE_DIRECTORY = "quarkus-transformation-cache";
+
     /**
      * Cache used for dev mode to save the result for classes that have not changed.
      */
     private static final Map<String, TransformedClassesBuildItem.TransformedClass> transformedClassesCache = new ConcurrentHashMap<>();
     private static volatile BiFunction<String, byte[], byte[]> lastTransformers;
 
+    TransformationCacheConfiguration transformationCacheConfig;
+
+    @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+    static final class TransformationCacheConfiguration {
+        /**
+         * Whether the classes transformed by transformers that provide a cache key should be cached in the build
+         * directory, so they are only transformed again when the class or the transformers change.
+         */
+        @ConfigItem(defaultValue = "true")
+        boolean enabled;
+    }
+
     public static byte[] transform(String className, byte[] classData) {
         if (lastTransformers == null) {
             return classData;
@@ -76,7 +95,8 @@ public class ClassTransformingBuildStep {
             ApplicationArchivesBuildItem appArchives, LiveReloadBuildItem liveReloadBuildItem,
             LaunchModeBuildItem launchModeBuildItem, ClassLoadingConfig classLoadingConfig,
             CurateOutcomeBuildItem curateOutcomeBuildItem, List<RemovedResourceBuildItem> removedResourceBuildItems,
-            ArchiveRootBuildItem archiveRoot, LaunchModeBuildItem launchMode, PackageConfig packageConfig)
+            ArchiveRootBuildItem archiveRoot, LaunchModeBuildItem launchMode, PackageConfig packageConfig,
+            BuildSystemTargetBuildItem buildSystemTarget)
             throws ExecutionException, InterruptedException {
         if (bytecodeTransformerBuildItems.isEmpty() && classLoadingConfig.removedResources.isEmpty()
                 && removedResourceBuildItems.isEmpty()) {
@@ -109,6 +129,9 @@ public class ClassTransformingBuildStep {
                     (oldValue, newValue) -> oldValue | newValue);
         }
         QuarkusClassLoader cl = (QuarkusClassLoader) Thread.currentThread().getContextClassLoader();
+        final TransformedClassCache transformationCache = new TransformedClassCache(
+                buildSystemTarget.getOutputDirectory().resolve(TRANSFORMATION_CACHE_DIRECTORY));
+        final long start = System.nanoTime();
         Map<String, Path> transformedToArchive = new ConcurrentHashMap<>();
         // now copy all the contents to the runner jar
         // we also record if any additional archives needed transformation
@@ -182,6 +205,7 @@ public class ClassTransformingBuildStep {
                     if (liveReloadBuildItem.getChangeInformation() != null) {
                         if (!liveReloadBuildItem.getChangeInformation().getChangedClasses().contains(className)) {
                             //we can use the cached transformation
+                            transformationCache.reused();
                             handleTransformedClass(transformedToArchive, transformedClassesByJar,
                                     transformedClassesCache.get(className));
                             continue;
@@ -208,6 +232,7 @@ public class ClassTransformingBuildStep {
                     List<BiFunction<String, byte[], byte[]>> preVisitFunctions = entry.getValue().stream()
                             .map(BytecodeTransformerBuildItem::getInputTransformer).filter(Objects::nonNull)
                             .collect(Collectors.toList());
+                    List<BytecodeTransformerBuildItem> classTransformers = entry.getValue();
                     transformedToArchive.put(classFileName, jar);
                     transformed.add(executorPool.submit(new Callable<TransformedClassesBuildItem.TransformedClass>() {
                         @Override
@@ -222,8 +247,21 @@ public class ClassTransformingBuildStep {
                                         return null;
                                     }
                                 }
-                                byte[] data = transformClass(className, visitors, classData, preVisitFunctions,
-                                        classReaderOptions.getOrDefault(className, 0));
+                                int readerOptions = classReaderOptions.getOrDefault(className, 0);
+                                String cacheKey = transformationCacheConfig.enabled && classData != null
+                                        ? TransformedClassCache.key(className, classData, readerOptions, classTransformers)
+                                        : null;
+                                byte[] data = cacheKey != null ? transformationCache.read(cacheKey) : null;
+                                if (data == null) {
+                                    long transformationStart = System.nanoTime();
+                                    data = transformClass(className, visitors, classData, preVisitFunctions,
+                                            readerOptions);
+                                    transformationCache.transformed();
+                                    if (cacheKey != null && data != null) {
+                                        transformationCache.write(cacheKey, data,
+                                                System.nanoTime() - transformationStart);
+                                    }
+                                }
                                 TransformedClassesBuildItem.TransformedClass transformedClass = new TransformedClassesBuildItem.TransformedClass(
                                         className, data,
                                         classFileName, eager.contains(className));
@@ -267,6 +305,14 @@ public class ClassTransformingBuildStep {
             }
         }
 
+        log.debugf("Transformed %d classes and reused %d cached transformations in %d ms, saving %d ms",
+                transformationCache.getTransformed(), transformationCache.getReused(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                TimeUnit.NANOSECONDS.toMillis(transformationCache.getSavedNanos()));
+        if (transformationCacheConfig.enabled) {
+            transformationCache.prune();
+        }
+
         if (packageConfig.writeTransformedBytecodeToBuildOutput && (launchMode.getLaunchMode() == LaunchMode.NORMAL)) {
             // the idea here is to write the transformed classes into the build tool's output directory to make core coverage work
 
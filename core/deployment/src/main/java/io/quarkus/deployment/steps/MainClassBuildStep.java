@@ -4,13 +4,20 @@ import static io.quarkus.gizmo.MethodDescriptor.ofConstructor;
 import static io.quarkus.gizmo.MethodDescriptor.ofMethod;
 
 import java.io.File;
+import java.io.Writer;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Handler;
 import java.util.stream.Collectors;
@@ -60,6 +67,7 @@ import io.quarkus.dev.console.QuarkusConsole;
 import io.quarkus.gizmo.BytecodeCreator;
 import io.quarkus.gizmo.CatchBlockCreator;
 import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.gizmo.FieldCreator;
 import io.quarkus.gizmo.FieldDescriptor;
 import io.quarkus.gizmo.MethodCreator;
@@ -122,6 +130,16 @@ public class MainClassBuildStep {
 
         // Application class
         GeneratedClassGizmoAdaptor gizmoOutput = new GeneratedClassGizmoAdaptor(generatedClass, true);
+
+        // Startup tasks
+        List<BytecodeRecorderImpl> recorders = new ArrayList<>();
+        for (StaticBytecodeRecorderBuildItem holder : staticInitTasks) {
+            recorders.add(holder.getBytecodeRecorder());
+        }
+        for (MainBytecodeRecorderBuildItem holder : mainMethod) {
+            recorders.add(holder.getBytecodeRecorder());
+        }
+        writeRecordedBytecode(recorders, substitutions, recordableConstructorBuildItems, loaders, constants, gizmoOutput);
         ClassCreator file = new ClassCreator(gizmoOutput, Application.APP_CLASS_NAME, null,
                 Application.class.getName());
 
@@ -174,8 +192,7 @@ public class MainClassBuildStep {
         TryBlock tryBlock = mv.tryBlock();
         tryBlock.invokeStaticMethod(CONFIGURE_STEP_TIME_START);
         for (StaticBytecodeRecorderBuildItem holder : staticInitTasks) {
-            writeRecordedBytecode(holder.getBytecodeRecorder(), null, substitutions, recordableConstructorBuildItems, loaders,
-                    constants, gizmoOutput, startupContext, tryBlock);
+            invokeStartupTask(holder.getBytecodeRecorder(), null, startupContext, tryBlock);
         }
         tryBlock.returnValue(null);
 
@@ -248,9 +265,8 @@ public class MainClassBuildStep {
         tryBlock = mv.tryBlock();
         tryBlock.invokeStaticMethod(CONFIGURE_STEP_TIME_START);
         for (MainBytecodeRecorderBuildItem holder : mainMethod) {
-            writeRecordedBytecode(holder.getBytecodeRecorder(), holder.getGeneratedStartupContextClassName(), substitutions,
-                    recordableConstructorBuildItems,
-                    loaders, constants, gizmoOutput, startupContext, tryBlock);
+            invokeStartupTask(holder.getBytecodeRecorder(), holder.getGeneratedStartupContextClassName(), startupContext,
+                    tryBlock);
         }
 
         // Startup log messages
@@ -416,19 +432,21 @@ public class MainClassBuildStep {
         file.close();
     }
 
-    private void writeRecordedBytecode(BytecodeRecorderImpl recorder, String fallbackGeneratedStartupTaskClassName,
+    /**
+     * Generates the startup task classes of the recorders. The recorders are independent from each other, so the
+     * classes are generated concurrently, then produced in the order of the recorders to keep the build reproducible.
+     */
+    private void writeRecordedBytecode(List<BytecodeRecorderImpl> recorders,
             List<ObjectSubstitutionBuildItem> substitutions,
             List<RecordableConstructorBuildItem> recordableConstructorBuildItems,
             List<BytecodeRecorderObjectLoaderBuildItem> loaders,
             List<BytecodeRecorderConstantDefinitionBuildItem> constants,
-            GeneratedClassGizmoAdaptor gizmoOutput,
-            ResultHandle startupContext, BytecodeCreator bytecodeCreator) {
-
-        if ((recorder == null || recorder.isEmpty()) && fallbackGeneratedStartupTaskClassName == null) {
-            return;
-        }
-
-        if ((recorder != null) && !recorder.isEmpty()) {
+            GeneratedClassGizmoAdaptor gizmoOutput) {
+        List<BytecodeRecorderImpl> nonEmpty = new ArrayList<>();
+        for (BytecodeRecorderImpl recorder : recorders) {
+            if (recorder == null || recorder.isEmpty()) {
+                continue;
+            }
             for (ObjectSubstitutionBuildItem sub : substitutions) {
                 ObjectSubstitutionBuildItem.Holder holder1 = sub.holder;
                 recorder.registerSubstitution(holder1.from, holder1.to, holder1.substitution);
@@ -442,7 +460,59 @@ public class MainClassBuildStep {
             for (BytecodeRecorderConstantDefinitionBuildItem constant : constants) {
                 constant.register(recorder);
             }
-            recorder.writeBytecode(gizmoOutput);
+            nonEmpty.add(recorder);
+        }
+        int threads = Math.min(nonEmpty.size(), Runtime.getRuntime().availableProcessors());
+        if (threads < 2) {
+            for (BytecodeRecorderImpl recorder : nonEmpty) {
+                recorder.writeBytecode(gizmoOutput);
+            }
+            return;
+        }
+        final ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        final ExecutorService executorPool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<RecordedClassOutput>> results = new ArrayList<>(nonEmpty.size());
+            for (BytecodeRecorderImpl recorder : nonEmpty) {
+                results.add(executorPool.submit(new Callable<RecordedClassOutput>() {
+                    @Override
+                    public RecordedClassOutput call() {
+                        ClassLoader old = Thread.currentThread().getContextClassLoader();
+                        try {
+                            Thread.currentThread().setContextClassLoader(tccl);
+                            RecordedClassOutput output = new RecordedClassOutput(gizmoOutput);
+                            recorder.writeBytecode(output);
+                            return output;
+                        } finally {
+                            Thread.currentThread().setContextClassLoader(old);
+                        }
+                    }
+                }));
+            }
+            for (Future<RecordedClassOutput> result : results) {
+                result.get().writeTo(gizmoOutput);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while generating the startup tasks", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executorPool.shutdownNow();
+        }
+    }
+
+    private void invokeStartupTask(BytecodeRecorderImpl recorder, String fallbackGeneratedStartupTaskClassName,
+            ResultHandle startupContext, BytecodeCreator bytecodeCreator) {
+
+        if ((recorder == null || recorder.isEmpty()) && fallbackGeneratedStartupTaskClassName == null) {
+            return;
         }
 
         ResultHandle dup = bytecodeCreator
@@ -460,4 +530,32 @@ public class MainClassBuildStep {
         return new ReflectiveClassBuildItem(false, false, Application.APP_CLASS_NAME);
     }
 
+    /**
+     * Buffers the classes generated for a recorder, so they can be produced in a deterministic order.
+     */
+    private static final class RecordedClassOutput implements ClassOutput {
+
+        private final ClassOutput delegate;
+        private final Map<String, byte[]> classes = new LinkedHashMap<>();
+
+        RecordedClassOutput(ClassOutput delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(String className, byte[] bytes) {
+            classes.put(className, bytes);
+        }
+
+        @Override
+        public Writer getSourceWriter(String className) {
+            return delegate.getSourceWriter(className);
+        }
+
+        void writeTo(ClassOutput output) {
+            for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+                output.write(entry.getKey(), entry.getValue());
+            }
+        }
+    }
 }
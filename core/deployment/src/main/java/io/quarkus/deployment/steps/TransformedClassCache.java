@@ -0,0 +1,195 @@
+package io.quarkus.deployment.steps;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
+
+/**
+ * A content-addressed, on-disk cache of transformed classes.
+ * <p>
+ * An entry is keyed by a hash of the class name, the original class bytes, the class reader options and the
+ * {@linkplain BytecodeTransformerBuildItem#getCacheKey() cache keys} of the transformers, so an entry never needs to
+ * be invalidated: a change to any of these leads to a different entry. Each entry also records how long the
+ * transformation took, to report the time saved by the cache.
+ * <p>
+ * Reading an entry refreshes its modification time, and {@link #prune()} deletes the entries that have not been used
+ * for {@link #MAX_UNUSED_AGE}, so the entries of classes that changed do not accumulate.
+ */
+final class TransformedClassCache {
+
+    private static final Logger log = Logger.getLogger(TransformedClassCache.class);
+
+    private static final int FORMAT_VERSION = 1;
+    static final Duration MAX_UNUSED_AGE = Duration.ofDays(7);
+
+    private final Path directory;
+    private final AtomicInteger transformed = new AtomicInteger();
+    private final AtomicInteger reused = new AtomicInteger();
+    private final AtomicLong savedNanos = new AtomicLong();
+
+    TransformedClassCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @return the key of the entry, or {@code null} if one of the transformers does not have a cache key
+     */
+    static String key(String className, byte[] classData, int classReaderOptions,
+            List<BytecodeTransformerBuildItem> transformers) {
+        // checked first, so that the class bytes are not hashed for nothing
+        for (BytecodeTransformerBuildItem transformer : transformers) {
+            if (transformer.getCacheKey() == null) {
+                return null;
+            }
+        }
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update((byte) FORMAT_VERSION);
+        digest.update(className.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(classData);
+        digest.update((byte) 0);
+        digest.update(Integer.toString(classReaderOptions).getBytes(StandardCharsets.UTF_8));
+        for (BytecodeTransformerBuildItem transformer : transformers) {
+            digest.update((byte) 0);
+            digest.update(transformer.getCacheKey().getBytes(StandardCharsets.UTF_8));
+        }
+        StringBuilder key = new StringBuilder(64);
+        for (byte b : digest.digest()) {
+            key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return key.toString();
+    }
+
+    /**
+     * @return the cached transformed bytes, or {@code null} if there is no entry for the key
+     */
+    byte[] read(String key) {
+        Path entry = directory.resolve(key);
+        try (InputStream in = Files.newInputStream(entry)) {
+            DataInputStream data = new DataInputStream(in);
+            long transformationNanos = data.readLong();
+            int length = data.readInt();
+            byte[] bytes = data.readNBytes(length);
+            if (bytes.length != length) {
+                return null;
+            }
+            Files.setLastModifiedTime(entry, FileTime.from(Instant.now()));
+            reused.incrementAndGet();
+            savedNanos.addAndGet(transformationNanos);
+            return bytes;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Unable to read the cached transformed class %s", key);
+            return null;
+        }
+    }
+
+    void write(String key, byte[] bytes, long transformationNanos) {
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, key, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                DataOutputStream data = new DataOutputStream(out);
+                data.writeLong(transformationNanos);
+                data.writeInt(bytes.length);
+                data.write(bytes);
+                data.flush();
+            }
+            // entries are content-addressed, another build writing the same entry writes the same bytes
+            Files.move(tmp, directory.resolve(key), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            tmp = null;
+        } catch (IOException e) {
+            log.debugf(e, "Unable to cache the transformed class %s", key);
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes the entries that have not been written or read for {@link #MAX_UNUSED_AGE}, and the temporary files left
+     * by interrupted builds.
+     */
+    void prune() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        FileTime oldest = FileTime.from(Instant.now().minus(MAX_UNUSED_AGE));
+        int deleted = 0;
+        try (Stream<Path> entries = Files.list(directory)) {
+            for (Path entry : (Iterable<Path>) entries::iterator) {
+                try {
+                    if (Files.getLastModifiedTime(entry).compareTo(oldest) < 0) {
+                        Files.deleteIfExists(entry);
+                        deleted++;
+                    }
+                } catch (IOException e) {
+                    log.debugf(e, "Unable to prune the cached transformed class %s", entry);
+                }
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Unable to prune the transformed classes cache %s", directory);
+        }
+        if (deleted > 0) {
+            log.debugf("Pruned %d unused cached transformations", deleted);
+        }
+    }
+
+    /**
+     * Records a class that was transformed, whether or not the result could be cached.
+     */
+    void transformed() {
+        transformed.incrementAndGet();
+    }
+
+    /**
+     * Records a class whose transformation was reused from the dev mode in-memory cache.
+     */
+    void reused() {
+        reused.incrementAndGet();
+    }
+
+    int getTransformed() {
+        return transformed.get();
+    }
+
+    int getReused() {
+        return reused.get();
+    }
+
+    long getSavedNanos() {
+        return savedNanos.get();
+    }
+}
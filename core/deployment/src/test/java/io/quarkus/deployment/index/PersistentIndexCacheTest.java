@@ -0,0 +1,84 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PersistentIndexCacheTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testCachedIndexIsReadBack() throws IOException {
+        Path jar = createJar(PersistentIndexCacheTest.class);
+        PersistentIndexCache cache = new PersistentIndexCache(dir.resolve("cache"));
+        assertNull(cache.read(jar, null));
+
+        Index index = IndexingUtil.indexJar(jar);
+        cache.write(jar, null, index);
+
+        Index cached = cache.read(jar, null);
+        assertNotNull(cached);
+        assertNotNull(cached.getClassByName(DotName.createSimple(PersistentIndexCacheTest.class.getName())));
+        assertEquals(index.getKnownClasses().size(), cached.getKnownClasses().size());
+        // the removed resources are part of the key
+        assertNull(cache.read(jar, Collections.emptySet()));
+    }
+
+    @Test
+    public void testModifiedJarInvalidatesTheEntry() throws IOException {
+        Path jar = createJar(PersistentIndexCacheTest.class);
+        PersistentIndexCache cache = new PersistentIndexCache(dir.resolve("cache"));
+        Set<String> removed = Set.of("META-INF/foo");
+        cache.write(jar, removed, IndexingUtil.indexJar(jar, removed));
+        assertNotNull(cache.read(jar, removed));
+
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 10_000));
+        assertNull(cache.read(jar, removed));
+    }
+
+    @Test
+    public void testCorruptedEntryIsIgnored() throws IOException {
+        Path jar = createJar(PersistentIndexCacheTest.class);
+        Path cacheDir = dir.resolve("cache");
+        PersistentIndexCache cache = new PersistentIndexCache(cacheDir);
+        cache.write(jar, null, IndexingUtil.indexJar(jar));
+        try (var entries = Files.list(cacheDir)) {
+            Path entry = entries.findFirst().orElseThrow();
+            byte[] content = Files.readAllBytes(entry);
+            Files.write(entry, Arrays.copyOf(content, content.length / 2));
+        }
+        assertNull(cache.read(jar, null));
+    }
+
+    private Path createJar(Class<?> clazz) throws IOException {
+        Path jar = dir.resolve("test.jar");
+        String name = clazz.getName().replace('.', '/') + ".class";
+        try (OutputStream out = Files.newOutputStream(jar);
+                JarOutputStream jarOut = new JarOutputStream(out);
+                InputStream in = clazz.getClassLoader().getResourceAsStream(name)) {
+            jarOut.putNextEntry(new JarEntry(name));
+            in.transferTo(jarOut);
+            jarOut.closeEntry();
+        }
+        return jar;
+    }
+}
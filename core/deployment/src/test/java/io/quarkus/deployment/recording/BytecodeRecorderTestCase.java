@@ -24,9 +24,14 @@ import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.commons.CodeSizeEvaluator;
 
 import io.quarkus.deployment.TestClassLoader;
 import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.Gizmo;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.StartupContext;
@@ -35,6 +40,7 @@ import io.quarkus.runtime.StartupTask;
 public class BytecodeRecorderTestCase {
 
     private static final String TEST_CLASS = "com.quarkus.test.GenClass";
+    private static final int HUGE_METHOD_LIMIT = 8000;
 
     @Test
     public void testPrimitiveParams() throws Exception {
@@ -361,7 +367,11 @@ public class BytecodeRecorderTestCase {
         TestClassLoader tcl = new TestClassLoader(getClass().getClassLoader());
         BytecodeRecorderImpl recorder = new BytecodeRecorderImpl(tcl, false, TEST_CLASS);
         generator.accept(recorder);
-        recorder.writeBytecode(new TestClassOutput(tcl));
+        TestClassOutput output = new TestClassOutput(tcl);
+        recorder.writeBytecode(output);
+        // recorded methods must stay small enough to be compiled by the JIT
+        assertTrue(output.getLargestMethodSize() < HUGE_METHOD_LIMIT,
+                "Largest method size: " + output.getLargestMethodSize());
 
         StartupTask task = (StartupTask) tcl.loadClass(TEST_CLASS).getDeclaredConstructor().newInstance();
         task.deploy(new StartupContext());
@@ -407,6 +417,7 @@ public class BytecodeRecorderTestCase {
 
     private static class TestClassOutput implements ClassOutput {
         private final TestClassLoader tcl;
+        private int largestMethodSize;
 
         public TestClassOutput(TestClassLoader tcl) {
             this.tcl = tcl;
@@ -414,7 +425,23 @@ public class BytecodeRecorderTestCase {
 
         @Override
         public void write(String s, byte[] bytes) {
+            new ClassReader(bytes).accept(new ClassVisitor(Gizmo.ASM_API_VERSION) {
+                @Override
+                public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                        String[] exceptions) {
+                    return new CodeSizeEvaluator(null) {
+                        @Override
+                        public void visitEnd() {
+                            largestMethodSize = Math.max(largestMethodSize, getMaxSize());
+                        }
+                    };
+                }
+            }, 0);
             tcl.write(s, bytes);
         }
+
+        int getLargestMethodSize() {
+            return largestMethodSize;
+        }
     }
 }
@@ -0,0 +1,96 @@
+package io.quarkus.deployment.steps;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
+
+public class TransformedClassCacheTest {
+
+    private static final byte[] CLASS_DATA = { 1, 2, 3 };
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testKeyRequiresAllTransformersToHaveAKey() {
+        assertNull(TransformedClassCache.key("org.acme.Foo", CLASS_DATA, 0,
+                List.of(transformer("a"), transformer(null))));
+        assertNotNull(TransformedClassCache.key("org.acme.Foo", CLASS_DATA, 0, List.of(transformer("a"))));
+    }
+
+    @Test
+    public void testKeyDependsOnTheInputs() {
+        String key = TransformedClassCache.key("org.acme.Foo", CLASS_DATA, 0, List.of(transformer("a")));
+        assertEquals(key, TransformedClassCache.key("org.acme.Foo", CLASS_DATA, 0, List.of(transformer("a"))));
+        assertNotEquals(key, TransformedClassCache.key("org.acme.Bar", CLASS_DATA, 0, List.of(transformer("a"))));
+        assertNotEquals(key, TransformedClassCache.key("org.acme.Foo", new byte[] { 1, 2 }, 0,
+                List.of(transformer("a"))));
+        assertNotEquals(key, TransformedClassCache.key("org.acme.Foo", CLASS_DATA, 8, List.of(transformer("a"))));
+        assertNotEquals(key, TransformedClassCache.key("org.acme.Foo", CLASS_DATA, 0, List.of(transformer("b"))));
+    }
+
+    @Test
+    public void testEntriesAreReused() {
+        TransformedClassCache cache = new TransformedClassCache(dir.resolve("cache"));
+        String key = TransformedClassCache.key("org.acme.Foo", CLASS_DATA, 0, List.of(transformer("a")));
+        assertNull(cache.read(key));
+        cache.write(key, new byte[] { 4, 5 }, 1_000_000);
+
+        TransformedClassCache nextBuild = new TransformedClassCache(dir.resolve("cache"));
+        assertArrayEquals(new byte[] { 4, 5 }, nextBuild.read(key));
+        assertEquals(1, nextBuild.getReused());
+        assertEquals(1_000_000, nextBuild.getSavedNanos());
+    }
+
+    @Test
+    public void testUnusedEntriesArePruned() throws Exception {
+        TransformedClassCache cache = new TransformedClassCache(dir.resolve("cache"));
+        String unused = TransformedClassCache.key("org.acme.Foo", CLASS_DATA, 0, List.of(transformer("a")));
+        String used = TransformedClassCache.key("org.acme.Bar", CLASS_DATA, 0, List.of(transformer("a")));
+        cache.write(unused, new byte[] { 4, 5 }, 1_000_000);
+        cache.write(used, new byte[] { 6, 7 }, 1_000_000);
+        FileTime old = FileTime.from(Instant.now().minus(TransformedClassCache.MAX_UNUSED_AGE).minusSeconds(60));
+        Files.setLastModifiedTime(dir.resolve("cache").resolve(unused), old);
+        Files.setLastModifiedTime(dir.resolve("cache").resolve(used), old);
+
+        // reading an entry marks it as used
+        assertNotNull(cache.read(used));
+        cache.prune();
+        assertNull(cache.read(unused));
+        assertArrayEquals(new byte[] { 6, 7 }, cache.read(used));
+    }
+
+    @Test
+    public void testTransformerKeyCoversTheNestedClasses() {
+        String key = BytecodeTransformerBuildItem.cacheKeyOf(TransformedClassCacheTest.class);
+        assertNotNull(key);
+        assertEquals(key, BytecodeTransformerBuildItem.cacheKeyOf(Nested.class));
+        assertNotEquals(key, BytecodeTransformerBuildItem.cacheKeyOf(TransformedClassCache.class));
+        // the bytes of the JDK classes are not available
+        assertNull(BytecodeTransformerBuildItem.cacheKeyOf(String.class));
+    }
+
+    private static final class Nested {
+    }
+
+    private static BytecodeTransformerBuildItem transformer(String cacheKey) {
+        return new BytecodeTransformerBuildItem.Builder()
+                .setClassToTransform("org.acme.Foo")
+                .setVisitorFunction((className, visitor) -> visitor)
+                .setCacheKey(cacheKey)
+                .build();
+    }
+}
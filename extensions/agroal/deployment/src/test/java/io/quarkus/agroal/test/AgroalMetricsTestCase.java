@@ -10,6 +10,7 @@ import org.eclipse.microprofile.metrics.Counter;
 import org.eclipse.microprofile.metrics.Gauge;
 import org.eclipse.microprofile.metrics.MetricID;
 import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.SimpleTimer;
 import org.eclipse.microprofile.metrics.Tag;
 import org.eclipse.microprofile.metrics.annotation.RegistryType;
 import org.junit.jupiter.api.Assertions;
@@ -55,6 +56,7 @@ public class AgroalMetricsTestCase {
 
         Assertions.assertEquals(1L, acquireCount.getCount());
         Assertions.assertEquals(1L, maxUsed.getValue());
+        assertAcquireTimeRecorded("default");
     }
 
     @Test
@@ -74,6 +76,18 @@ public class AgroalMetricsTestCase {
 
         Assertions.assertEquals(1L, acquireCount.getCount());
         Assertions.assertEquals(1L, maxUsed.getValue());
+        assertAcquireTimeRecorded("ds1");
+    }
+
+    private void assertAcquireTimeRecorded(String dataSourceName) {
+        SimpleTimer acquireTime = registry.getSimpleTimers()
+                .get(new MetricID("agroal.acquire.time", new Tag("datasource", dataSourceName)));
+        Assertions.assertNotNull(acquireTime, "Agroal metrics should be registered eagerly");
+        Assertions.assertEquals(1L, acquireTime.getCount());
+        Counter acquireFailures = registry.getCounters()
+                .get(new MetricID("agroal.acquire.failure.count", new Tag("datasource", dataSourceName)));
+        Assertions.assertNotNull(acquireFailures, "Agroal metrics should be registered eagerly");
+        Assertions.assertEquals(0L, acquireFailures.getCount());
     }
 
 }
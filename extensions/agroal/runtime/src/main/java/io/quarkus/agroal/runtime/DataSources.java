@@ -39,6 +39,7 @@ import io.quarkus.agroal.DataSource;
 import io.quarkus.agroal.runtime.DataSourcesJdbcBuildTimeConfig.DataSourceJdbcOuterNamedBuildTimeConfig;
 import io.quarkus.agroal.runtime.DataSourcesJdbcRuntimeConfig.DataSourceJdbcOuterNamedRuntimeConfig;
 import io.quarkus.agroal.runtime.JdbcDriver.JdbcDriverLiteral;
+import io.quarkus.agroal.runtime.metrics.AgroalAcquireTimeDataSource;
 import io.quarkus.arc.Arc;
 import io.quarkus.credentials.CredentialsProvider;
 import io.quarkus.credentials.runtime.CredentialsProviderFinder;
@@ -72,6 +73,7 @@ public class DataSources {
     private final Instance<AgroalPoolInterceptor> agroalPoolInterceptors;
 
     private final ConcurrentMap<String, AgroalDataSource> dataSources = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AgroalAcquireTimeDataSource> acquireTimeDataSources = new ConcurrentHashMap<>();
 
     public DataSources(DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
             DataSourcesRuntimeConfig dataSourcesRuntimeConfig, DataSourcesJdbcBuildTimeConfig dataSourcesJdbcBuildTimeConfig,
@@ -114,6 +116,17 @@ public class DataSources {
         });
     }
 
+    /**
+     * Returns the wrapper timing the connection acquisitions of the given datasource.
+     *
+     * @param dataSourceName the name of the datasource, {@link DataSourceUtil#DEFAULT_DATASOURCE_NAME} for the default one
+     * @return the datasource measuring the acquisition of connections, or {@code null} if the metrics of the datasource
+     *         are disabled or the datasource was not created yet
+     */
+    public AgroalAcquireTimeDataSource getAcquireTimeDataSource(String dataSourceName) {
+        return acquireTimeDataSources.get(dataSourceName);
+    }
+
     public AgroalDataSource doCreateDataSource(String dataSourceName) {
         if (!dataSourceSupport.entries.containsKey(dataSourceName)) {
             throw new IllegalArgumentException("No datasource named '" + dataSourceName + "' exists");
@@ -186,10 +199,16 @@ public class DataSources {
 
         // Explicit reference to bypass reflection need of the ServiceLoader used by AgroalDataSource#from
         AgroalDataSourceConfiguration agroalConfiguration = dataSourceConfiguration.get();
-        AgroalDataSource dataSource = new io.agroal.pool.DataSource(agroalConfiguration,
-                new AgroalEventLoggingListener(dataSourceName,
-                        agroalConfiguration.connectionPoolConfiguration()
-                                .transactionRequirement() == TransactionRequirement.WARN));
+        AgroalEventLoggingListener eventLoggingListener = new AgroalEventLoggingListener(dataSourceName,
+                agroalConfiguration.connectionPoolConfiguration()
+                        .transactionRequirement() == TransactionRequirement.WARN);
+        AgroalDataSource dataSource = new io.agroal.pool.DataSource(agroalConfiguration, eventLoggingListener);
+        // same condition as the registration of the metrics in AgroalMetricsProcessor
+        if (dataSourcesBuildTimeConfig.metricsEnabled && dataSourceJdbcBuildTimeConfig.enableMetrics.orElse(true)) {
+            AgroalAcquireTimeDataSource acquireTimeDataSource = new AgroalAcquireTimeDataSource(dataSource);
+            acquireTimeDataSources.put(dataSourceName, acquireTimeDataSource);
+            dataSource = acquireTimeDataSource;
+        }
         log.debugv("Started datasource {0} connected to {1}", dataSourceName,
                 agroalConfiguration.connectionPoolConfiguration().connectionFactoryConfiguration().jdbcUrl());
 
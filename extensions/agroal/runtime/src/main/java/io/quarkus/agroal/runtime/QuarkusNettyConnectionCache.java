@@ -11,6 +11,9 @@ class QuarkusNettyConnectionCache implements ConnectionCache {
 
     volatile FastThreadLocal<Acquirable> connectionCache = new FastThreadLocal<>();
 
+    // used on the other threads
+    final StripedConnectionCache stripedCache = new StripedConnectionCache();
+
     @Override
     public Acquirable get() {
         Thread thread = Thread.currentThread();
@@ -23,7 +26,7 @@ class QuarkusNettyConnectionCache implements ConnectionCache {
             Acquirable acquirable = connectionCache.get();
             return acquirable != null && acquirable.acquire() ? acquirable : null;
         }
-        return null;
+        return stripedCache.get();
     }
 
     @Override
@@ -31,11 +34,14 @@ class QuarkusNettyConnectionCache implements ConnectionCache {
         Thread thread = Thread.currentThread();
         if (thread instanceof FastThreadLocalThread || thread instanceof JBossThread) {
             connectionCache.set(acquirable);
+        } else {
+            stripedCache.put(acquirable);
         }
     }
 
     @Override
     public void reset() {
         connectionCache = new FastThreadLocal<>();
+        stripedCache.reset();
     }
 }
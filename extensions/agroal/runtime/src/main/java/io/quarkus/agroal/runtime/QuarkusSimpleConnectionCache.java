@@ -9,6 +9,9 @@ class QuarkusSimpleConnectionCache implements ConnectionCache {
 
     volatile ThreadLocal<Acquirable> connectionCache = new ThreadLocal<>();
 
+    // used on the other threads
+    final StripedConnectionCache stripedCache = new StripedConnectionCache();
+
     @Override
     public Acquirable get() {
         Thread thread = Thread.currentThread();
@@ -21,7 +24,7 @@ class QuarkusSimpleConnectionCache implements ConnectionCache {
             Acquirable acquirable = connectionCache.get();
             return acquirable != null && acquirable.acquire() ? acquirable : null;
         }
-        return null;
+        return stripedCache.get();
     }
 
     @Override
@@ -29,11 +32,14 @@ class QuarkusSimpleConnectionCache implements ConnectionCache {
         Thread thread = Thread.currentThread();
         if (thread instanceof JBossThread) {
             connectionCache.set(acquirable);
+        } else {
+            stripedCache.put(acquirable);
         }
     }
 
     @Override
     public void reset() {
         connectionCache = new ThreadLocal<>();
+        stripedCache.reset();
     }
 }
@@ -0,0 +1,47 @@
+package io.quarkus.agroal.runtime;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.agroal.api.cache.Acquirable;
+
+/**
+ * A connection cache for the threads whose lifecycle we do not control, e.g. the threads of a custom executor or virtual
+ * threads. Caching a connection in a thread local of such threads would leak, so they share a fixed number of slots
+ * instead, the slot being selected from the thread id.
+ * <p>
+ * This is lock-free: a connection cached in a slot can only be acquired by one thread at a time, a thread which does not
+ * manage to acquire it simply gets a connection from the pool.
+ */
+final class StripedConnectionCache {
+
+    private static final int STRIPES = stripes();
+
+    private volatile AtomicReferenceArray<Acquirable> slots = new AtomicReferenceArray<>(STRIPES);
+
+    Acquirable get() {
+        Acquirable acquirable = slots.get(index());
+        return acquirable != null && acquirable.acquire() ? acquirable : null;
+    }
+
+    void put(Acquirable acquirable) {
+        slots.lazySet(index(), acquirable);
+    }
+
+    void reset() {
+        slots = new AtomicReferenceArray<>(STRIPES);
+    }
+
+    private static int index() {
+        return index(Thread.currentThread().getId());
+    }
+
+    static int index(long threadId) {
+        return (int) (threadId ^ (threadId >>> 32)) & (STRIPES - 1);
+    }
+
+    private static int stripes() {
+        // the next power of two of twice the number of processors
+        int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+        return Math.min(stripes, 256);
+    }
+}
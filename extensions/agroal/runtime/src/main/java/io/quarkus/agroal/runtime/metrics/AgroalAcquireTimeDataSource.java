@@ -0,0 +1,150 @@
+package io.quarkus.agroal.runtime.metrics;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceMetrics;
+import io.agroal.api.AgroalPoolInterceptor;
+import io.agroal.api.configuration.AgroalDataSourceConfiguration;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * Measures how long {@code getConnection()} takes, including the time spent waiting for a connection to be available.
+ * Failed acquisitions, e.g. because the acquisition timeout expired, are measured as well, and counted separately.
+ * <p>
+ * Agroal does not notify its listeners when an acquisition fails, hence the datasource is wrapped. Nothing is measured
+ * until a {@link TimeRecorder} is set, i.e. until the metrics of the datasource are registered.
+ */
+public final class AgroalAcquireTimeDataSource implements AgroalDataSource {
+
+    private static final long serialVersionUID = 1L;
+
+    private final AgroalDataSource delegate;
+    private final LongAdder failures = new LongAdder();
+
+    private transient volatile TimeRecorder timeRecorder;
+
+    public AgroalAcquireTimeDataSource(AgroalDataSource delegate) {
+        this.delegate = delegate;
+    }
+
+    void setTimeRecorder(TimeRecorder timeRecorder) {
+        this.timeRecorder = timeRecorder;
+    }
+
+    long getFailureCount() {
+        return failures.sum();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        TimeRecorder recorder = timeRecorder;
+        if (recorder == null) {
+            return delegate.getConnection();
+        }
+        long start = System.nanoTime();
+        try {
+            return delegate.getConnection();
+        } catch (SQLException | RuntimeException e) {
+            failures.increment();
+            throw e;
+        } finally {
+            recorder.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        TimeRecorder recorder = timeRecorder;
+        if (recorder == null) {
+            return delegate.getConnection(username, password);
+        }
+        long start = System.nanoTime();
+        try {
+            return delegate.getConnection(username, password);
+        } catch (SQLException | RuntimeException e) {
+            failures.increment();
+            throw e;
+        } finally {
+            recorder.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public AgroalDataSourceConfiguration getConfiguration() {
+        return delegate.getConfiguration();
+    }
+
+    @Override
+    public AgroalDataSourceMetrics getMetrics() {
+        return delegate.getMetrics();
+    }
+
+    @Override
+    public void flush(FlushMode mode) {
+        delegate.flush(mode);
+    }
+
+    @Override
+    public void setPoolInterceptors(Collection<? extends AgroalPoolInterceptor> interceptors) {
+        delegate.setPoolInterceptors(interceptors);
+    }
+
+    @Override
+    public List<AgroalPoolInterceptor> getPoolInterceptors() {
+        return delegate.getPoolInterceptors();
+    }
+
+    @Override
+    public boolean isHealthy(boolean newConnection) throws SQLException {
+        return delegate.isHealthy(newConnection);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return delegate.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        delegate.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        delegate.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return delegate.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return delegate.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : delegate.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || delegate.isWrapperFor(iface);
+    }
+}
@@ -8,6 +8,7 @@ import java.util.function.Supplier;
 import io.agroal.api.AgroalDataSource;
 import io.agroal.api.AgroalDataSourceMetrics;
 import io.quarkus.agroal.DataSource;
+import io.quarkus.agroal.runtime.DataSources;
 import io.quarkus.arc.Arc;
 import io.quarkus.datasource.common.runtime.DataSourceUtil;
 import io.quarkus.runtime.annotations.Recorder;
@@ -96,6 +97,20 @@ public class AgroalMetricsRecorder {
                         .tag("datasource", tagValue)
                         .unit("milliseconds")
                         .buildGauge(metrics::blockingTimeTotal, convertToMillis);
+
+                AgroalAcquireTimeDataSource acquireTimeDataSource = Arc.container().instance(DataSources.class).get()
+                        .getAcquireTimeDataSource(dataSourceName);
+                if (acquireTimeDataSource != null) {
+                    acquireTimeDataSource.setTimeRecorder(metricsFactory.builder("agroal.acquire.time")
+                            .description(
+                                    "Time spent acquiring a connection, including the time waiting for one to be available.")
+                            .tag("datasource", tagValue)
+                            .buildTimer());
+                    metricsFactory.builder("agroal.acquire.failure.count")
+                            .description("Number of failed attempts to acquire a connection, e.g. because of a timeout.")
+                            .tag("datasource", tagValue)
+                            .buildCounter(acquireTimeDataSource::getFailureCount);
+                }
                 metricsFactory.builder("agroal.creation.time.average")
                         .description("Average time for a connection to be created.")
                         .tag("datasource", tagValue)
@@ -0,0 +1,124 @@
+package io.quarkus.agroal.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import io.agroal.api.cache.Acquirable;
+
+public class StripedConnectionCacheTest {
+
+    @Test
+    public void testReleasedConnectionIsReusedByAnotherThreadOfTheStripe() throws Exception {
+        StripedConnectionCache cache = new StripedConnectionCache();
+        TestAcquirable acquirable = new TestAcquirable();
+        int stripe = StripedConnectionCache.index(Thread.currentThread().getId());
+        cache.put(acquirable);
+
+        AtomicReference<Acquirable> reused = new AtomicReference<>();
+        runOnStripe(stripe, () -> reused.set(cache.get()));
+        assertSame(acquirable, reused.get());
+
+        // Not released yet
+        assertNull(cache.get());
+        acquirable.release();
+        assertSame(acquirable, cache.get());
+    }
+
+    @Test
+    public void testThreadsOfOtherStripesDoNotShareTheConnection() throws Exception {
+        StripedConnectionCache cache = new StripedConnectionCache();
+        TestAcquirable acquirable = new TestAcquirable();
+        int stripe = StripedConnectionCache.index(Thread.currentThread().getId());
+        cache.put(acquirable);
+
+        AtomicReference<Acquirable> other = new AtomicReference<>(acquirable);
+        runOnStripe(stripe + 1, () -> other.set(cache.get()));
+        assertNull(other.get());
+        assertSame(acquirable, cache.get());
+    }
+
+    @Test
+    public void testConnectionIsAcquiredByOneThreadAtATime() throws Exception {
+        StripedConnectionCache cache = new StripedConnectionCache();
+        TestAcquirable acquirable = new TestAcquirable();
+        int stripe = StripedConnectionCache.index(Thread.currentThread().getId());
+        cache.put(acquirable);
+
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger acquired = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(threadOnStripe(stripe, () -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (cache.get() != null) {
+                    acquired.incrementAndGet();
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1, acquired.get());
+    }
+
+    @Test
+    public void testReset() {
+        StripedConnectionCache cache = new StripedConnectionCache();
+        cache.put(new TestAcquirable());
+        cache.reset();
+        assertNull(cache.get());
+    }
+
+    private static void runOnStripe(int stripe, Runnable action) throws InterruptedException {
+        Thread thread = threadOnStripe(stripe, action);
+        thread.start();
+        thread.join();
+    }
+
+    private static Thread threadOnStripe(int stripe, Runnable action) {
+        int expected = StripedConnectionCache.index(stripe);
+        while (true) {
+            // Thread ids are assigned sequentially, one of the next threads is on the given stripe
+            Thread thread = new Thread(action);
+            if (StripedConnectionCache.index(thread.getId()) == expected) {
+                return thread;
+            }
+        }
+    }
+
+    static class TestAcquirable implements Acquirable {
+
+        private final AtomicBoolean inUse = new AtomicBoolean();
+
+        @Override
+        public boolean acquire() {
+            return inUse.compareAndSet(false, true);
+        }
+
+        @Override
+        public boolean isAcquirable() {
+            return !inUse.get();
+        }
+
+        void release() {
+            inUse.set(false);
+        }
+    }
+}
@@ -81,9 +81,11 @@ import io.quarkus.grpc.runtime.health.GrpcHealthStorage;
 import io.quarkus.grpc.runtime.stork.GrpcStorkRecorder;
 import io.quarkus.grpc.runtime.supports.context.GrpcDuplicatedContextGrpcInterceptor;
 import io.quarkus.grpc.runtime.supports.context.GrpcRequestContextGrpcInterceptor;
+import io.quarkus.grpc.runtime.supports.http.GrpcHttpServerRoutes;
 import io.quarkus.kubernetes.spi.KubernetesPortBuildItem;
 import io.quarkus.netty.deployment.MinNettyAllocatorMaxOrderBuildItem;
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
 import io.quarkus.vertx.deployment.VertxBuildItem;
 
@@ -473,7 +475,7 @@ public class GrpcServerProcessor {
 
     @BuildStep
     void registerBeans(BuildProducer<AdditionalBeanBuildItem> beans,
-            Capabilities capabilities,
+            Capabilities capabilities, GrpcServerBuildTimeConfig serverBuildTimeConfig,
             List<BindableServiceBuildItem> bindables, BuildProducer<FeatureBuildItem> features) {
         // @GrpcService is a CDI qualifier
         beans.produce(new AdditionalBeanBuildItem(GrpcService.class));
@@ -491,6 +493,14 @@ public class GrpcServerProcessor {
                 beans.produce(AdditionalBeanBuildItem.unremovableOf(GrpcSecurityInterceptor.class));
                 beans.produce(AdditionalBeanBuildItem.unremovableOf(DefaultAuthExceptionHandlerProvider.class));
             }
+
+            if (!serverBuildTimeConfig.useSeparateServer) {
+                if (!capabilities.isPresent(Capability.VERTX_HTTP)) {
+                    throw new ConfigurationException("quarkus.grpc.server.use-separate-server=false requires the "
+                            + "quarkus-vertx-http extension to serve the gRPC services on the HTTP server");
+                }
+                beans.produce(AdditionalBeanBuildItem.unremovableOf(GrpcHttpServerRoutes.class));
+            }
         } else {
             log.debug("Unable to find beans exposing the `BindableService` interface - not starting the gRPC server");
         }
@@ -596,12 +606,20 @@ public class GrpcServerProcessor {
         }
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void configureStreamPrefetch(GrpcServerRecorder recorder, GrpcConfiguration config) {
+        // applies to the Mutiny stubs of both the services and the clients
+        recorder.configureStreamPrefetch(config);
+    }
+
     @BuildStep
     @Record(value = ExecutionTime.RUNTIME_INIT)
     @Consume(SyntheticBeansRuntimeInitBuildItem.class)
     ServiceStartBuildItem initializeServer(GrpcServerRecorder recorder,
             GrpcConfiguration config,
             GrpcBuildTimeConfig buildTimeConfig,
+            GrpcServerBuildTimeConfig serverBuildTimeConfig,
             ShutdownContextBuildItem shutdown,
             List<BindableServiceBuildItem> bindables,
             List<RecorderBeanInitializedBuildItem> orderEnforcer,
@@ -618,7 +636,8 @@ public class GrpcServerProcessor {
 
         if (!bindables.isEmpty()
                 || (LaunchMode.current() == LaunchMode.DEVELOPMENT && buildTimeConfig.devMode.forceServerStart)) {
-            recorder.initializeGrpcServer(vertx.getVertx(), config, shutdown, blocking, launchModeBuildItem.getLaunchMode());
+            recorder.initializeGrpcServer(vertx.getVertx(), config, shutdown, blocking, launchModeBuildItem.getLaunchMode(),
+                    serverBuildTimeConfig.useSeparateServer);
             return new ServiceStartBuildItem(GRPC_SERVER);
         }
         return null;
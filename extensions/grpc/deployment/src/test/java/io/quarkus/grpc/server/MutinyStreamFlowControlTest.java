@@ -0,0 +1,121 @@
+package io.quarkus.grpc.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.reactivestreams.Subscription;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.EmptyProtos;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.testing.integration.Messages;
+import io.grpc.testing.integration.MutinyTestServiceGrpc;
+import io.grpc.testing.integration.TestServiceGrpc;
+import io.quarkus.grpc.GrpcService;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Verifies that a service streaming more than a slow client consumes only produces a bounded number of messages
+ * ahead of the client, instead of buffering the whole stream in memory.
+ */
+public class MutinyStreamFlowControlTest {
+
+    private static final int MESSAGES = 10_000;
+    private static final int MESSAGE_SIZE = 16 * 1024;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setFlatClassPath(true).setArchiveProducer(
+                    () -> ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(InfiniteStreamService.class,
+                                    EmptyProtos.class, Messages.class, MutinyTestServiceGrpc.class,
+                                    TestServiceGrpc.class))
+            .overrideConfigKey("quarkus.grpc.stream-prefetch", "8");
+
+    private ManagedChannel channel;
+
+    @BeforeEach
+    public void init() {
+        channel = ManagedChannelBuilder.forAddress("localhost", 9001)
+                .usePlaintext()
+                .build();
+    }
+
+    @AfterEach
+    public void shutdown() {
+        if (channel != null) {
+            channel.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSlowConsumerBoundsTheMessagesProducedAhead() {
+        AtomicInteger received = new AtomicInteger();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        MutinyTestServiceGrpc.newMutinyStub(channel)
+                .streamingOutputCall(Messages.StreamingOutputCallRequest.newBuilder().build())
+                .subscribe().withSubscriber(new MultiSubscriber<Messages.StreamingOutputCallResponse>() {
+                    @Override
+                    public void onSubscribe(Subscription s) {
+                        subscription.set(s);
+                    }
+
+                    @Override
+                    public void onItem(Messages.StreamingOutputCallResponse item) {
+                        received.incrementAndGet();
+                    }
+
+                    @Override
+                    public void onFailure(Throwable failure) {
+                    }
+
+                    @Override
+                    public void onCompletion() {
+                    }
+                });
+
+        await().until(() -> subscription.get() != null);
+        for (int i = 1; i <= 20; i++) {
+            subscription.get().request(1);
+            int expected = i;
+            await().until(() -> received.get() == expected);
+        }
+
+        // leave the producer time to run as far ahead as the flow control lets it
+        await().pollDelay(Duration.ofSeconds(1)).until(() -> true);
+        assertThat(InfiniteStreamService.produced.get())
+                .isGreaterThanOrEqualTo(20)
+                .isLessThan(MESSAGES / 10);
+        subscription.get().cancel();
+    }
+
+    @GrpcService
+    public static class InfiniteStreamService extends MutinyTestServiceGrpc.TestServiceImplBase {
+
+        static final AtomicInteger produced = new AtomicInteger();
+
+        @Override
+        public Multi<Messages.StreamingOutputCallResponse> streamingOutputCall(
+                Messages.StreamingOutputCallRequest request) {
+            ByteString body = ByteString.copyFrom(new byte[MESSAGE_SIZE]);
+            return Multi.createFrom().range(0, MESSAGES)
+                    .onItem().invoke(produced::incrementAndGet)
+                    .map(i -> Messages.StreamingOutputCallResponse.newBuilder()
+                            .setPayload(Messages.Payload.newBuilder().setBody(body)).build());
+        }
+    }
+}
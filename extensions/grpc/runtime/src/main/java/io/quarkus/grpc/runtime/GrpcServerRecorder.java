@@ -46,6 +46,9 @@ import io.quarkus.grpc.runtime.health.GrpcHealthStorage;
 import io.quarkus.grpc.runtime.reflection.ReflectionService;
 import io.quarkus.grpc.runtime.supports.CompressionInterceptor;
 import io.quarkus.grpc.runtime.supports.blocking.BlockingServerInterceptor;
+import io.quarkus.grpc.runtime.supports.http.GrpcHttpServerHandler;
+import io.quarkus.grpc.stubs.ClientCalls;
+import io.quarkus.grpc.stubs.ServerCalls;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.QuarkusBindException;
 import io.quarkus.runtime.RuntimeValue;
@@ -68,6 +71,7 @@ public class GrpcServerRecorder {
     private static final Logger LOGGER = Logger.getLogger(GrpcServerRecorder.class.getName());
 
     private static final AtomicInteger grpcVerticleCount = new AtomicInteger(0);
+    private static final int DEFAULT_MAX_INBOUND_MESSAGE_SIZE = 4 * 1024 * 1024;
     private Map<String, List<String>> blockingMethodsPerService = Collections.emptyMap();
 
     private static volatile DevModeWrapper devModeWrapper;
@@ -77,10 +81,16 @@ public class GrpcServerRecorder {
         return services;
     }
 
+    public void configureStreamPrefetch(GrpcConfiguration cfg) {
+        ServerCalls.setPrefetch(cfg.streamPrefetch);
+        ClientCalls.setPrefetch(cfg.streamPrefetch);
+    }
+
     public void initializeGrpcServer(RuntimeValue<Vertx> vertxSupplier,
             GrpcConfiguration cfg,
             ShutdownContext shutdown,
-            Map<String, List<String>> blockingMethodsPerServiceImplementationClass, LaunchMode launchMode) {
+            Map<String, List<String>> blockingMethodsPerServiceImplementationClass, LaunchMode launchMode,
+            boolean useSeparateServer) {
         GrpcContainer grpcContainer = Arc.container().instance(GrpcContainer.class).get();
         if (grpcContainer == null) {
             throw new IllegalStateException("gRPC not initialized, GrpcContainer not found");
@@ -94,6 +104,15 @@ public class GrpcServerRecorder {
 
         GrpcServerConfiguration configuration = cfg.server;
 
+        if (!useSeparateServer) {
+            // the methods are served by the main HTTP server, reloaded along with it in dev mode
+            GrpcHttpServerHandler.initialize(buildMethodRegistry(vertx, configuration, grpcContainer, launchMode),
+                    configuration.maxInboundMessageSize.orElse(DEFAULT_MAX_INBOUND_MESSAGE_SIZE));
+            initHealthStorage();
+            LOGGER.info("gRPC services served by the HTTP server");
+            return;
+        }
+
         if (launchMode == LaunchMode.DEVELOPMENT) {
             // start single server, not in a verticle, regardless of the configuration.instances
             // for reason unknown to me, verticles occasionally get undeployed on dev mode reload
@@ -426,6 +445,37 @@ public class GrpcServerRecorder {
         return new AbstractMap.SimpleEntry<>(port, builder.build());
     }
 
+    private Map<String, ServerMethodDefinition<?, ?>> buildMethodRegistry(Vertx vertx,
+            GrpcServerConfiguration configuration, GrpcContainer grpcContainer, LaunchMode launchMode) {
+        List<GrpcServiceDefinition> toBeRegistered = collectServiceDefinitions(grpcContainer.getServices());
+        List<ServerServiceDefinition> definitions = new ArrayList<>();
+        List<ServerServiceDefinition> servicesWithInterceptors = new ArrayList<>();
+
+        CompressionInterceptor compressionInterceptor = prepareCompressionInterceptor(configuration);
+        for (GrpcServiceDefinition service : toBeRegistered) {
+            servicesWithInterceptors.add(serviceWithInterceptors(vertx, grpcContainer, compressionInterceptor, service,
+                    launchMode == LaunchMode.DEVELOPMENT));
+            LOGGER.debugf("Registered gRPC service '%s'", service.definition.getServiceDescriptor().getName());
+            definitions.add(service.definition);
+        }
+
+        if (configuration.enableReflectionService || launchMode == LaunchMode.DEVELOPMENT) {
+            LOGGER.info("Registering gRPC reflection service");
+            servicesWithInterceptors.add(new ReflectionService(definitions).bindService());
+        }
+
+        // global interceptors wrap all the services, as when registered on a server builder
+        List<ServerInterceptor> globalInterceptors = grpcContainer.getSortedGlobalInterceptors();
+        Map<String, ServerMethodDefinition<?, ?>> methods = new HashMap<>();
+        for (ServerServiceDefinition service : servicesWithInterceptors) {
+            for (ServerMethodDefinition<?, ?> method : ServerInterceptors.intercept(service, globalInterceptors)
+                    .getMethods()) {
+                methods.put(method.getMethodDescriptor().getFullMethodName(), method);
+            }
+        }
+        return methods;
+    }
+
     /**
      * Compression interceptor if needed, null otherwise
      *
@@ -24,4 +24,13 @@ public class GrpcConfiguration {
     @ConfigDocSection
     public GrpcServerConfiguration server;
 
+    /**
+     * The maximum number of messages requested ahead when streaming with the Mutiny API: by the services, from the
+     * {@code Multi} they return, and by the clients, from the calls streaming responses back.
+     * Messages beyond this window are held back by the HTTP/2 flow control until the consumer catches up,
+     * lower values bound the memory used for slow consumers, higher values favor throughput.
+     */
+    @ConfigItem(defaultValue = "16")
+    public int streamPrefetch;
+
 }
@@ -17,4 +17,12 @@ public class GrpcServerBuildTimeConfig {
      */
     @ConfigItem(name = "grpc-health.enabled", defaultValue = "true")
     public boolean grpcHealthEnabled;
+
+    /**
+     * Whether the gRPC services are served by a separate server, listening on {@code quarkus.grpc.server.port}.
+     * If disabled, the gRPC services are served by the main HTTP server over HTTP/2, sharing its port, event loops
+     * and TLS configuration. This requires the {@code quarkus-vertx-http} extension.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean useSeparateServer;
 }
@@ -0,0 +1,443 @@
+package io.quarkus.grpc.runtime.supports.http;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.logging.Logger;
+
+import io.grpc.Attributes;
+import io.grpc.Context;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.net.SocketAddress;
+
+/**
+ * A {@link ServerCall} bridging a gRPC method to an HTTP/2 request received by the Vert.x HTTP server.
+ * <p>
+ * Incoming messages are only delivered to the listener when requested, the HTTP request is paused when the listener
+ * does not keep up, so the HTTP/2 flow control applies. Outgoing messages are written as they are sent, and
+ * {@link #isReady()} reflects both the messages sent but not written yet and the state of the response write queue.
+ * <p>
+ * Incoming data, listener notifications and writes to the response are handled on the event loop of the request, calls
+ * made by the application from other threads are dispatched to it in order.
+ */
+final class GrpcHttpServerCall<ReqT, RespT> extends ServerCall<ReqT, RespT> {
+
+    private static final Logger LOGGER = Logger.getLogger(GrpcHttpServerCall.class);
+
+    static final String GRPC_CONTENT_TYPE = "application/grpc";
+    static final String GRPC_STATUS = "grpc-status";
+    static final String GRPC_MESSAGE = "grpc-message";
+    private static final String GRPC_TIMEOUT = "grpc-timeout";
+    private static final String GRPC_ENCODING = "grpc-encoding";
+    private static final String IDENTITY = "identity";
+
+    /**
+     * Number of received messages not yet requested by the listener above which the request is paused.
+     */
+    private static final int MAX_PENDING_MESSAGES = 16;
+
+    /**
+     * Number of bytes of the sent messages not yet written to the response above which the call is not ready.
+     */
+    private static final int MAX_PENDING_BYTES = 32 * 1024;
+
+    private final io.vertx.core.Context vertxContext;
+    private final HttpServerRequest request;
+    private final HttpServerResponse response;
+    private final MethodDescriptor<ReqT, RespT> method;
+    private final int maxInboundMessageSize;
+    private final Context.CancellableContext context;
+    private final Deque<Buffer> messages = new ArrayDeque<>();
+    // actions dispatched to the event loop and not run yet, later actions are queued behind them to keep the order
+    private final AtomicInteger pendingActions = new AtomicInteger();
+    // bytes of the messages sent but not written to the response yet
+    private final AtomicLong pendingBytes = new AtomicLong();
+
+    private Listener<ReqT> listener;
+    private Buffer partial;
+    private int demand;
+    private boolean paused;
+    private boolean halfClosed;
+    private boolean halfClosedDelivered;
+    private long deadlineTimer = -1;
+    private volatile boolean headersSent;
+    private volatile boolean closed;
+    private volatile boolean cancelled;
+    // isReady() returned false, the listener must be notified once the call is ready again
+    private volatile boolean readyNotificationNeeded;
+
+    GrpcHttpServerCall(Vertx vertx, HttpServerRequest request, MethodDescriptor<ReqT, RespT> method,
+            int maxInboundMessageSize) {
+        this.vertxContext = vertx.getOrCreateContext();
+        this.request = request;
+        this.response = request.response();
+        this.method = method;
+        this.maxInboundMessageSize = maxInboundMessageSize;
+        this.context = Context.ROOT.withCancellation();
+    }
+
+    /**
+     * Starts the call.
+     *
+     * @param handler the handler of the gRPC method
+     * @param body the request body if it has already been read, {@code null} otherwise
+     */
+    void start(ServerCallHandler<ReqT, RespT> handler, Buffer body) {
+        String encoding = request.getHeader(GRPC_ENCODING);
+        if (encoding != null && !IDENTITY.equals(encoding)) {
+            closeWithoutListener(Status.UNIMPLEMENTED.withDescription("Unsupported message encoding " + encoding));
+            return;
+        }
+        String timeout = request.getHeader(GRPC_TIMEOUT);
+        if (timeout != null) {
+            long nanos;
+            try {
+                nanos = parseTimeout(timeout);
+            } catch (IllegalArgumentException e) {
+                closeWithoutListener(Status.INTERNAL.withDescription(e.getMessage()));
+                return;
+            }
+            deadlineTimer = vertxContext.owner().setTimer(Math.max(1, TimeUnit.NANOSECONDS.toMillis(nanos)), id -> {
+                deadlineTimer = -1;
+                if (!closed) {
+                    cancel(Status.DEADLINE_EXCEEDED.withDescription("Deadline exceeded after " + timeout));
+                }
+            });
+        }
+        Metadata headers = GrpcMessageCodec.toMetadata(request.headers());
+
+        if (body == null) {
+            request.pause();
+            paused = true;
+            request.handler(this::handleData);
+            request.endHandler(v -> {
+                halfClosed = true;
+                deliver();
+            });
+            request.exceptionHandler(t -> cancel(Status.CANCELLED.withCause(t)));
+        }
+        response.closeHandler(v -> {
+            if (!closed) {
+                cancel(Status.CANCELLED.withDescription("Client closed the connection"));
+            }
+        });
+        response.drainHandler(v -> notifyIfReady());
+
+        Context previous = context.attach();
+        try {
+            listener = handler.startCall(this, headers);
+        } catch (Throwable t) {
+            closeWithoutListener(Status.fromThrowable(t));
+            return;
+        } finally {
+            context.detach(previous);
+        }
+        if (body != null) {
+            halfClosed = true;
+            handleData(body);
+        } else {
+            deliver();
+        }
+        invokeListener(() -> listener.onReady());
+    }
+
+    private void handleData(Buffer chunk) {
+        Buffer data = partial == null ? chunk : partial.appendBuffer(chunk);
+        int position = 0;
+        int length = data.length();
+        while (length - position >= GrpcMessageCodec.PREFIX_LENGTH) {
+            byte compressed = data.getByte(position);
+            int messageLength = data.getInt(position + 1);
+            if (compressed != 0) {
+                cancel(Status.UNIMPLEMENTED.withDescription("Compressed messages are not supported"));
+                return;
+            }
+            if (messageLength < 0 || messageLength > maxInboundMessageSize) {
+                cancel(Status.RESOURCE_EXHAUSTED.withDescription(
+                        "Message size " + messageLength + " exceeds the maximum of " + maxInboundMessageSize));
+                return;
+            }
+            int end = position + GrpcMessageCodec.PREFIX_LENGTH + messageLength;
+            if (end > length) {
+                break;
+            }
+            // slicing shares the received bytes until the message is decoded
+            messages.add(data.slice(position + GrpcMessageCodec.PREFIX_LENGTH, end));
+            position = end;
+        }
+        partial = position == length ? null : data.getBuffer(position, length);
+        deliver();
+    }
+
+    private void deliver() {
+        if (listener == null) {
+            // the call is being started, messages are delivered once the listener is known
+            return;
+        }
+        while (demand > 0 && !messages.isEmpty() && !closed) {
+            demand--;
+            Buffer message = messages.poll();
+            invokeListener(() -> listener.onMessage(GrpcMessageCodec.decode(method.getRequestMarshaller(), message)));
+        }
+        if (messages.isEmpty() && halfClosed) {
+            if (partial != null) {
+                cancel(Status.INTERNAL.withDescription("Incomplete message received"));
+            } else if (!halfClosedDelivered && !closed) {
+                halfClosedDelivered = true;
+                invokeListener(() -> listener.onHalfClose());
+            }
+        } else if (!halfClosed) {
+            boolean pause = messages.size() >= MAX_PENDING_MESSAGES || demand == 0 && !messages.isEmpty();
+            if (pause && !paused) {
+                paused = true;
+                request.pause();
+            } else if (!pause && paused) {
+                paused = false;
+                request.resume();
+            }
+        }
+    }
+
+    private void invokeListener(Runnable notification) {
+        if (listener == null) {
+            return;
+        }
+        Context previous = context.attach();
+        try {
+            notification.run();
+        } catch (Throwable t) {
+            LOGGER.debugf(t, "gRPC method %s failed", method.getFullMethodName());
+            close(Status.fromThrowable(t), new Metadata());
+        } finally {
+            context.detach(previous);
+        }
+    }
+
+    private void runOnContext(Runnable action) {
+        if (vertxContext == Vertx.currentContext() && pendingActions.get() == 0) {
+            action.run();
+        } else {
+            pendingActions.incrementAndGet();
+            vertxContext.runOnContext(v -> {
+                try {
+                    action.run();
+                } finally {
+                    pendingActions.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private boolean writable() {
+        return pendingBytes.get() < MAX_PENDING_BYTES && !response.writeQueueFull();
+    }
+
+    private void notifyIfReady() {
+        if (readyNotificationNeeded && !closed && writable()) {
+            readyNotificationNeeded = false;
+            invokeListener(() -> listener.onReady());
+        }
+    }
+
+    private void cancelDeadline() {
+        if (deadlineTimer != -1) {
+            vertxContext.owner().cancelTimer(deadlineTimer);
+            deadlineTimer = -1;
+        }
+    }
+
+    @Override
+    public void request(int numMessages) {
+        runOnContext(() -> {
+            demand += numMessages;
+            deliver();
+        });
+    }
+
+    @Override
+    public void sendHeaders(Metadata headers) {
+        if (headersSent) {
+            throw new IllegalStateException("Headers already sent");
+        }
+        headersSent = true;
+        headers.discardAll(Metadata.Key.of(GRPC_ENCODING, Metadata.ASCII_STRING_MARSHALLER));
+        runOnContext(() -> {
+            if (response.closed() || response.ended()) {
+                return;
+            }
+            MultiMap responseHeaders = response.headers();
+            responseHeaders.set(HttpHeaders.CONTENT_TYPE, GRPC_CONTENT_TYPE);
+            GrpcMessageCodec.copyMetadata(headers, responseHeaders);
+            response.setChunked(true);
+        });
+    }
+
+    @Override
+    public void sendMessage(RespT message) {
+        if (closed) {
+            throw new IllegalStateException("Call already closed");
+        }
+        if (!headersSent) {
+            throw new IllegalStateException("Headers must be sent before the messages");
+        }
+        Buffer encoded = GrpcMessageCodec.encode(method.getResponseMarshaller(), message);
+        pendingBytes.addAndGet(encoded.length());
+        runOnContext(() -> {
+            if (!response.closed() && !response.ended()) {
+                response.write(encoded);
+            }
+            pendingBytes.addAndGet(-encoded.length());
+            notifyIfReady();
+        });
+    }
+
+    @Override
+    public boolean isReady() {
+        if (closed) {
+            return false;
+        }
+        if (writable()) {
+            return true;
+        }
+        readyNotificationNeeded = true;
+        // the pending writes may have completed before the flag was set, without notifying the listener
+        return writable();
+    }
+
+    @Override
+    public void close(Status status, Metadata trailers) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        runOnContext(() -> {
+            cancelDeadline();
+            if (!response.closed() && !response.ended()) {
+                MultiMap target;
+                if (headersSent) {
+                    target = response.trailers();
+                } else {
+                    // trailers-only response
+                    response.headers().set(HttpHeaders.CONTENT_TYPE, GRPC_CONTENT_TYPE);
+                    target = response.headers();
+                }
+                target.set(GRPC_STATUS, Integer.toString(status.getCode().value()));
+                if (status.getDescription() != null) {
+                    target.set(GRPC_MESSAGE, GrpcMessageCodec.encodeStatusMessage(status.getDescription()));
+                }
+                GrpcMessageCodec.copyMetadata(trailers, target);
+                response.end(ar -> {
+                    if (ar.succeeded()) {
+                        invokeListener(() -> listener.onComplete());
+                    }
+                    context.cancel(null);
+                });
+            } else {
+                context.cancel(null);
+            }
+        });
+    }
+
+    private void closeWithoutListener(Status status) {
+        closed = true;
+        cancelDeadline();
+        response.headers().set(HttpHeaders.CONTENT_TYPE, GRPC_CONTENT_TYPE);
+        response.headers().set(GRPC_STATUS, Integer.toString(status.getCode().value()));
+        if (status.getDescription() != null) {
+            response.headers().set(GRPC_MESSAGE, GrpcMessageCodec.encodeStatusMessage(status.getDescription()));
+        }
+        response.end();
+    }
+
+    private void cancel(Status status) {
+        if (cancelled) {
+            return;
+        }
+        cancelled = true;
+        cancelDeadline();
+        if (!closed) {
+            closed = true;
+            if (!response.closed() && !response.ended()) {
+                response.reset();
+            }
+        }
+        context.cancel(status.asRuntimeException());
+        invokeListener(() -> listener.onCancel());
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public MethodDescriptor<ReqT, RespT> getMethodDescriptor() {
+        return method;
+    }
+
+    @Override
+    public Attributes getAttributes() {
+        Attributes.Builder attributes = Attributes.newBuilder();
+        SocketAddress remote = request.remoteAddress();
+        if (remote != null && remote.host() != null) {
+            attributes.set(Grpc.TRANSPORT_ATTR_REMOTE_ADDR, new InetSocketAddress(remote.host(), remote.port()));
+        }
+        SocketAddress local = request.localAddress();
+        if (local != null && local.host() != null) {
+            attributes.set(Grpc.TRANSPORT_ATTR_LOCAL_ADDR, new InetSocketAddress(local.host(), local.port()));
+        }
+        if (request.sslSession() != null) {
+            attributes.set(Grpc.TRANSPORT_ATTR_SSL_SESSION, request.sslSession());
+        }
+        return attributes.build();
+    }
+
+    @Override
+    public String getAuthority() {
+        return request.host();
+    }
+
+    /**
+     * Parses a {@code grpc-timeout} header value, i.e. an amount followed by a unit among {@code H}, {@code M},
+     * {@code S}, {@code m}, {@code u}, {@code n}.
+     *
+     * @return the timeout in nanoseconds
+     */
+    static long parseTimeout(String value) {
+        if (value.length() < 2) {
+            throw new IllegalArgumentException("Invalid grpc-timeout: " + value);
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        switch (value.charAt(value.length() - 1)) {
+            case 'H':
+                return TimeUnit.HOURS.toNanos(amount);
+            case 'M':
+                return TimeUnit.MINUTES.toNanos(amount);
+            case 'S':
+                return TimeUnit.SECONDS.toNanos(amount);
+            case 'm':
+                return TimeUnit.MILLISECONDS.toNanos(amount);
+            case 'u':
+                return TimeUnit.MICROSECONDS.toNanos(amount);
+            case 'n':
+                return amount;
+            default:
+                throw new IllegalArgumentException("Invalid grpc-timeout unit: " + value);
+        }
+    }
+}
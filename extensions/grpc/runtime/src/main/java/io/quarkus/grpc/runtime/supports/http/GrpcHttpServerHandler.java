@@ -0,0 +1,77 @@
+package io.quarkus.grpc.runtime.supports.http;
+
+import java.util.Collections;
+import java.util.Map;
+
+import io.grpc.ServerMethodDefinition;
+import io.grpc.Status;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Route handler serving the gRPC methods on the main HTTP server.
+ * Requests that are not gRPC requests are passed to the next handler.
+ */
+public class GrpcHttpServerHandler implements Handler<RoutingContext> {
+
+    private static volatile Map<String, ServerMethodDefinition<?, ?>> methods = Collections.emptyMap();
+    private static volatile int maxInboundMessageSize = Integer.MAX_VALUE;
+
+    private final Vertx vertx;
+
+    public GrpcHttpServerHandler(Vertx vertx) {
+        this.vertx = vertx;
+    }
+
+    /**
+     * Sets the methods served, keyed by full method name, with the interceptors already applied.
+     */
+    public static void initialize(Map<String, ServerMethodDefinition<?, ?>> serverMethods, int maxInboundSize) {
+        methods = serverMethods;
+        maxInboundMessageSize = maxInboundSize;
+    }
+
+    public static Map<String, ServerMethodDefinition<?, ?>> getMethods() {
+        return methods;
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        HttpServerRequest request = ctx.request();
+        String contentType = request.getHeader(HttpHeaders.CONTENT_TYPE);
+        if (request.method() != HttpMethod.POST || contentType == null
+                || !contentType.startsWith(GrpcHttpServerCall.GRPC_CONTENT_TYPE)) {
+            ctx.next();
+            return;
+        }
+        if (request.version() != HttpVersion.HTTP_2) {
+            ctx.response().setStatusCode(505).end("gRPC requires HTTP/2");
+            return;
+        }
+        // the path is /<service>/<method>, possibly prefixed by the root path
+        String path = request.path();
+        int methodSeparator = path.lastIndexOf('/');
+        int serviceStart = methodSeparator > 0 ? path.lastIndexOf('/', methodSeparator - 1) + 1 : -1;
+        ServerMethodDefinition<?, ?> method = serviceStart >= 0 ? methods.get(path.substring(serviceStart)) : null;
+        if (method == null) {
+            ctx.response().putHeader(HttpHeaders.CONTENT_TYPE, GrpcHttpServerCall.GRPC_CONTENT_TYPE)
+                    .putHeader(GrpcHttpServerCall.GRPC_STATUS, Integer.toString(Status.Code.UNIMPLEMENTED.value()))
+                    .putHeader(GrpcHttpServerCall.GRPC_MESSAGE, "Method not found: " + path)
+                    .end();
+            return;
+        }
+        start(ctx, method);
+    }
+
+    private <ReqT, RespT> void start(RoutingContext ctx, ServerMethodDefinition<ReqT, RespT> method) {
+        GrpcHttpServerCall<ReqT, RespT> call = new GrpcHttpServerCall<>(vertx, ctx.request(),
+                method.getMethodDescriptor(), maxInboundMessageSize);
+        // the body has been read already if a body handler ran before this handler
+        call.start(method.getServerCallHandler(), ctx.request().isEnded() ? ctx.getBody() : null);
+    }
+}
@@ -0,0 +1,19 @@
+package io.quarkus.grpc.runtime.supports.http;
+
+import javax.enterprise.event.Observes;
+import javax.inject.Singleton;
+
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.Router;
+
+/**
+ * Registers the gRPC route on the main HTTP server, when the gRPC services are not served by a separate server.
+ */
+@Singleton
+public class GrpcHttpServerRoutes {
+
+    void init(@Observes Router router, Vertx vertx) {
+        // gRPC requests are handled before the body handler, so the messages are streamed instead of buffered
+        router.route().order(Integer.MIN_VALUE + 1).handler(new GrpcHttpServerHandler(vertx));
+    }
+}
@@ -0,0 +1,155 @@
+package io.quarkus.grpc.runtime.supports.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.MessageLite;
+
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Encodes and decodes gRPC messages and metadata exchanged over the Vert.x HTTP server.
+ * <p>
+ * Protobuf messages are parsed from the Netty buffers backing the received Vert.x {@link Buffer}s, and serialized into a
+ * buffer sized for the message, instead of going through the streams of the marshallers. Other messages, and the
+ * metadata, are converted through copies.
+ */
+final class GrpcMessageCodec {
+
+    /**
+     * Length of the prefix of each message: 1 byte compression flag, 4 bytes message length.
+     */
+    static final int PREFIX_LENGTH = 5;
+
+    private static final Base64.Encoder BASE64_ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_DECODER = Base64.getDecoder();
+
+    private GrpcMessageCodec() {
+        // Avoid direct instantiation
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T decode(MethodDescriptor.Marshaller<T> marshaller, Buffer message) {
+        ByteBuf buf = message.getByteBuf();
+        MessageLite prototype = prototype(marshaller);
+        if (prototype != null && buf.nioBufferCount() == 1) {
+            ByteBuffer nioBuffer = buf.nioBuffer();
+            CodedInputStream input = CodedInputStream.newInstance(nioBuffer);
+            // the buffer is not reused once the message is decoded, bytes fields can safely reference it
+            input.enableAliasing(true);
+            try {
+                return (T) prototype.getParserForType().parseFrom(input, ExtensionRegistryLite.getEmptyRegistry());
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Unable to parse gRPC message", e);
+            }
+        }
+        return marshaller.parse(new ByteBufInputStream(buf));
+    }
+
+    static <T> Buffer encode(MethodDescriptor.Marshaller<T> marshaller, T message) {
+        if (message instanceof MessageLite) {
+            MessageLite protoMessage = (MessageLite) message;
+            int size = protoMessage.getSerializedSize();
+            ByteBuf buf = Unpooled.buffer(PREFIX_LENGTH + size, PREFIX_LENGTH + size);
+            buf.writeByte(0);
+            buf.writeInt(size);
+            CodedOutputStream output = CodedOutputStream.newInstance(buf.nioBuffer(PREFIX_LENGTH, size));
+            try {
+                protoMessage.writeTo(output);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            output.checkNoSpaceLeft();
+            buf.writerIndex(PREFIX_LENGTH + size);
+            return Buffer.buffer(buf);
+        }
+        byte[] bytes;
+        try (InputStream stream = marshaller.stream(message)) {
+            bytes = stream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Buffer buffer = Buffer.buffer(PREFIX_LENGTH + bytes.length);
+        buffer.appendByte((byte) 0);
+        buffer.appendInt(bytes.length);
+        buffer.appendBytes(bytes);
+        return buffer;
+    }
+
+    private static MessageLite prototype(MethodDescriptor.Marshaller<?> marshaller) {
+        if (marshaller instanceof MethodDescriptor.PrototypeMarshaller) {
+            Object prototype = ((MethodDescriptor.PrototypeMarshaller<?>) marshaller).getMessagePrototype();
+            if (prototype instanceof MessageLite) {
+                return (MessageLite) prototype;
+            }
+        }
+        return null;
+    }
+
+    static Metadata toMetadata(MultiMap headers) {
+        Metadata metadata = new Metadata();
+        for (Map.Entry<String, String> header : headers) {
+            String name = header.getKey().toLowerCase();
+            if (name.endsWith(Metadata.BINARY_HEADER_SUFFIX)) {
+                metadata.put(Metadata.Key.of(name, Metadata.BINARY_BYTE_MARSHALLER),
+                        BASE64_DECODER.decode(header.getValue()));
+            } else {
+                metadata.put(Metadata.Key.of(name, Metadata.ASCII_STRING_MARSHALLER), header.getValue());
+            }
+        }
+        return metadata;
+    }
+
+    static void copyMetadata(Metadata metadata, MultiMap headers) {
+        for (String name : metadata.keys()) {
+            if (name.endsWith(Metadata.BINARY_HEADER_SUFFIX)) {
+                for (byte[] value : metadata.getAll(Metadata.Key.of(name, Metadata.BINARY_BYTE_MARSHALLER))) {
+                    headers.add(name, BASE64_ENCODER.encodeToString(value));
+                }
+            } else {
+                for (String value : metadata.getAll(Metadata.Key.of(name, Metadata.ASCII_STRING_MARSHALLER))) {
+                    headers.add(name, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Percent-encodes a status description, as mandated for the {@code grpc-message} trailer.
+     */
+    static String encodeStatusMessage(String message) {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        StringBuilder encoded = null;
+        for (int i = 0; i < bytes.length; i++) {
+            int b = bytes[i] & 0xFF;
+            boolean escape = b < ' ' || b > '~' || b == '%';
+            if (escape && encoded == null) {
+                encoded = new StringBuilder(bytes.length + 16);
+                encoded.append(new String(bytes, 0, i, StandardCharsets.US_ASCII));
+            }
+            if (encoded != null) {
+                if (escape) {
+                    encoded.append('%').append(Character.toUpperCase(Character.forDigit(b >> 4, 16)))
+                            .append(Character.toUpperCase(Character.forDigit(b & 0xF, 16)));
+                } else {
+                    encoded.append((char) b);
+                }
+            }
+        }
+        return encoded == null ? message : encoded.toString();
+    }
+}
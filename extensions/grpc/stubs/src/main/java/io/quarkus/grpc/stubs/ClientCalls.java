@@ -3,15 +3,17 @@ package io.quarkus.grpc.stubs;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import io.grpc.stub.StreamObserver;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
-import io.smallrye.mutiny.subscription.MultiEmitter;
 import io.smallrye.mutiny.subscription.UniEmitter;
 
 public class ClientCalls {
 
+    private static volatile int prefetch = ServerCalls.DEFAULT_PREFETCH;
+
     private ClientCalls() {
     }
 
@@ -25,10 +27,12 @@ public class ClientCalls {
     }
 
     public static <I, O> Multi<O> oneToMany(I request, BiConsumer<I, StreamObserver<O>> delegate) {
-        return Multi.createFrom().emitter(new Consumer<MultiEmitter<? super O>>() { // NOSONAR
+        return Multi.createFrom().deferred(new Supplier<Multi<? extends O>>() { // NOSONAR
             @Override
-            public void accept(MultiEmitter<? super O> emitter) {
-                delegate.accept(request, new MultiStreamObserver<>(emitter));
+            public Multi<? extends O> get() {
+                FlowControlledStreamObserver<O> response = new FlowControlledStreamObserver<>(prefetch);
+                delegate.accept(request, response);
+                return Multi.createFrom().publisher(response);
             }
         });
     }
@@ -62,10 +66,11 @@ public class ClientCalls {
     }
 
     public static <I, O> Multi<O> manyToMany(Multi<I> items, Function<StreamObserver<O>, StreamObserver<I>> delegate) {
-        return Multi.createFrom().emitter((new Consumer<MultiEmitter<? super O>>() { // NOSONAR
+        return Multi.createFrom().deferred(new Supplier<Multi<? extends O>>() { // NOSONAR
             @Override
-            public void accept(MultiEmitter<? super O> emitter) {
-                StreamObserver<I> request = delegate.apply(new MultiStreamObserver<>(emitter));
+            public Multi<? extends O> get() {
+                FlowControlledStreamObserver<O> response = new FlowControlledStreamObserver<>(prefetch);
+                StreamObserver<I> request = delegate.apply(response);
                 items.subscribe().with(
                         new Consumer<I>() {
                             @Override
@@ -85,8 +90,18 @@ public class ClientCalls {
                                 request.onCompleted();
                             }
                         });
+                return Multi.createFrom().publisher(response);
             }
-        }));
+        });
+    }
 
+    /**
+     * Sets the maximum number of messages requested ahead from the streams received by the clients.
+     */
+    public static void setPrefetch(int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("The prefetch must be positive, got " + value);
+        }
+        prefetch = value;
     }
 }
@@ -0,0 +1,144 @@
+package io.quarkus.grpc.stubs;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.smallrye.mutiny.helpers.Subscriptions;
+
+/**
+ * Publishes the messages streamed by a gRPC call, requesting them from the call only as the subscriber demands them.
+ * <p>
+ * The automatic inbound flow control of the call is disabled, and at most {@code prefetch} messages are requested
+ * ahead of the subscriber, so messages the subscriber is not ready to consume are held back by the HTTP/2 flow control
+ * instead of being buffered in memory. Cancelling the subscription cancels the call.
+ */
+final class FlowControlledStreamObserver<T> implements ClientResponseObserver<Object, T>, Publisher<T>, Subscription {
+
+    private final int prefetch;
+    private final int limit;
+
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private final AtomicBoolean terminated = new AtomicBoolean();
+
+    private volatile ClientCallStreamObserver<?> call;
+    private volatile Subscriber<? super T> downstream;
+    private volatile boolean cancelled;
+    private volatile boolean done;
+    private volatile Throwable failure;
+
+    FlowControlledStreamObserver(int prefetch) {
+        this.prefetch = prefetch;
+        this.limit = Math.max(1, prefetch / 2);
+    }
+
+    @Override
+    public void beforeStart(ClientCallStreamObserver<Object> requestStream) {
+        requestStream.disableAutoRequestWithInitial(0);
+        call = requestStream;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            Subscriptions.fail(subscriber, new IllegalStateException("The gRPC response stream allows a single subscriber"));
+            return;
+        }
+        downstream = subscriber;
+        subscriber.onSubscribe(this);
+        // the call may have ended before the subscription, e.g. with an empty stream
+        terminateIfDone();
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            cancel();
+            if (terminated.compareAndSet(false, true)) {
+                downstream.onError(Subscriptions.getInvalidRequestException());
+            }
+            return;
+        }
+        Subscriptions.add(requested, n);
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        if (!cancelled) {
+            cancelled = true;
+            ClientCallStreamObserver<?> current = call;
+            if (current != null && !done) {
+                current.cancel("Cancelled by the subscriber", null);
+            }
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        // messages are only received once requested, hence after the subscription
+        inFlight.decrementAndGet();
+        if (!cancelled) {
+            downstream.onNext(item);
+            drain();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        failure = throwable;
+        done = true;
+        terminateIfDone();
+    }
+
+    @Override
+    public void onCompleted() {
+        done = true;
+        terminateIfDone();
+    }
+
+    private void terminateIfDone() {
+        Subscriber<? super T> subscriber = downstream;
+        if (done && subscriber != null && !cancelled && terminated.compareAndSet(false, true)) {
+            Throwable throwable = failure;
+            if (throwable != null) {
+                subscriber.onError(throwable);
+            } else {
+                subscriber.onComplete();
+            }
+        }
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            ClientCallStreamObserver<?> current = call;
+            if (current != null && !cancelled && !done) {
+                int pending = inFlight.get();
+                long demand = requested.get();
+                int toRequest = (int) Math.min(demand, prefetch - pending);
+                // top the window up in batches, unless nothing is in flight
+                if (toRequest >= limit || (pending == 0 && toRequest > 0)) {
+                    inFlight.addAndGet(toRequest);
+                    if (demand != Long.MAX_VALUE) {
+                        requested.addAndGet(-toRequest);
+                    }
+                    current.request(toRequest);
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+}
@@ -0,0 +1,104 @@
+package io.quarkus.grpc.stubs;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.reactivestreams.Subscription;
+
+import io.grpc.stub.CallStreamObserver;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Writes the items of a {@code Multi} to a gRPC call, requesting them only while the call is ready to send.
+ * <p>
+ * At most {@code prefetch} items are requested ahead. Once the HTTP/2 flow-control window is exhausted the call is no
+ * longer ready, and no more items are requested until the call signals it is ready again, so a slow peer does not
+ * cause messages to pile up in memory.
+ */
+final class FlowControlledSubscriber<T> implements MultiSubscriber<T>, Cancellable, Runnable {
+
+    private final CallStreamObserver<T> call;
+    private final int prefetch;
+    private final int limit;
+    private final Consumer<Throwable> onFailure;
+    private final Runnable onCompletion;
+
+    private final AtomicReference<Subscription> upstream = new AtomicReference<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger wip = new AtomicInteger();
+
+    FlowControlledSubscriber(CallStreamObserver<T> call, int prefetch, Consumer<Throwable> onFailure,
+            Runnable onCompletion) {
+        this.call = call;
+        this.prefetch = prefetch;
+        this.limit = Math.max(1, prefetch / 2);
+        this.onFailure = onFailure;
+        this.onCompletion = onCompletion;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        if (upstream.compareAndSet(null, subscription)) {
+            requestIfReady();
+        } else {
+            subscription.cancel();
+        }
+    }
+
+    @Override
+    public void onItem(T item) {
+        inFlight.decrementAndGet();
+        call.onNext(item);
+        requestIfReady();
+    }
+
+    @Override
+    public void onFailure(Throwable failure) {
+        upstream.set(Subscriptions.CANCELLED);
+        onFailure.accept(failure);
+    }
+
+    @Override
+    public void onCompletion() {
+        upstream.set(Subscriptions.CANCELLED);
+        onCompletion.run();
+    }
+
+    /**
+     * Invoked by gRPC once the call becomes ready to send again.
+     */
+    @Override
+    public void run() {
+        requestIfReady();
+    }
+
+    @Override
+    public void cancel() {
+        Subscription subscription = upstream.getAndSet(Subscriptions.CANCELLED);
+        if (subscription != null && subscription != Subscriptions.CANCELLED) {
+            subscription.cancel();
+        }
+    }
+
+    private void requestIfReady() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            Subscription subscription = upstream.get();
+            if (subscription != null && subscription != Subscriptions.CANCELLED && call.isReady()) {
+                // top the window up in batches rather than item per item
+                int missing = prefetch - inFlight.get();
+                if (missing >= limit) {
+                    inFlight.addAndGet(missing);
+                    subscription.request(missing);
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+}
@@ -18,7 +18,13 @@ import io.smallrye.mutiny.subscription.Cancellable;
 public class ServerCalls {
     private static final Logger log = Logger.getLogger(ServerCalls.class);
 
+    /**
+     * The default maximum number of items requested ahead from the streams sent by the services.
+     */
+    public static final int DEFAULT_PREFETCH = 16;
+
     private static StreamCollector streamCollector = StreamCollector.NO_OP;
+    private static volatile int prefetch = DEFAULT_PREFETCH;
 
     private ServerCalls() {
     }
@@ -65,13 +71,7 @@ public class ServerCalls {
                 response.onError(Status.fromCode(Status.Code.INTERNAL).asException());
                 return;
             }
-            handleSubscription(returnValue.subscribe().with(
-                    new Consumer<O>() {
-                        @Override
-                        public void accept(O v) {
-                            response.onNext(v);
-                        }
-                    },
+            handleSubscription(subscribe(returnValue, response,
                     new Consumer<Throwable>() {
                         @Override
                         public void accept(Throwable throwable) {
@@ -125,6 +125,30 @@ public class ServerCalls {
         }
     }
 
+    /**
+     * Subscribes to the items to send. When the response supports it, the items are only requested while the call is
+     * ready, so a slow client does not cause the items to be buffered without bound.
+     */
+    private static <O> Cancellable subscribe(Multi<O> items, StreamObserver<O> response,
+            Consumer<Throwable> onFailure, Runnable onCompletion) {
+        if (response instanceof ServerCallStreamObserver) {
+            FlowControlledSubscriber<O> subscriber = new FlowControlledSubscriber<>(
+                    (ServerCallStreamObserver<O>) response, prefetch, onFailure, onCompletion);
+            ((ServerCallStreamObserver<O>) response).setOnReadyHandler(subscriber);
+            items.subscribe().withSubscriber(subscriber);
+            return subscriber;
+        }
+        return items.subscribe().with(
+                new Consumer<O>() {
+                    @Override
+                    public void accept(O v) {
+                        response.onNext(v);
+                    }
+                },
+                onFailure,
+                onCompletion);
+    }
+
     private static <O> void handleSubscription(Cancellable cancellable, StreamObserver<O> response) {
         if (response instanceof ServerCallStreamObserver) {
             ServerCallStreamObserver<O> serverCallResponse = (ServerCallStreamObserver<O>) response;
@@ -154,13 +178,7 @@ public class ServerCalls {
                 response.onError(Status.fromCode(Status.Code.INTERNAL).asException());
                 return null;
             }
-            handleSubscription(multi.subscribe().with(
-                    new Consumer<O>() {
-                        @Override
-                        public void accept(O v) {
-                            response.onNext(v);
-                        }
-                    },
+            handleSubscription(subscribe(multi, response,
                     new Consumer<Throwable>() {
                         @Override
                         public void accept(Throwable failure) {
@@ -249,4 +267,14 @@ public class ServerCalls {
     public static StreamCollector getStreamCollector() {
         return streamCollector;
     }
+
+    /**
+     * Sets the maximum number of items requested ahead from the streams sent by the services.
+     */
+    public static void setPrefetch(int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("The prefetch must be positive, got " + value);
+        }
+        prefetch = value;
+    }
 }
@@ -53,6 +53,7 @@ public class ClassNames {
     public static final DotName SESSION_FACTORY = createConstant("org.hibernate.SessionFactory");
     public static final DotName ENTITY_MANAGER = createConstant("javax.persistence.EntityManager");
     public static final DotName SESSION = createConstant("org.hibernate.Session");
+    public static final DotName STATELESS_SESSION = createConstant("org.hibernate.StatelessSession");
 
     public static final DotName INTERCEPTOR = createConstant("org.hibernate.Interceptor");
 
@@ -12,6 +12,7 @@ import javax.enterprise.inject.Default;
 
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
 import org.jboss.jandex.AnnotationTarget.Kind;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.DotName;
@@ -40,6 +41,7 @@ public class HibernateOrmCdiProcessor {
     private static final List<DotName> SESSION_FACTORY_EXPOSED_TYPES = Arrays.asList(ClassNames.ENTITY_MANAGER_FACTORY,
             ClassNames.SESSION_FACTORY);
     private static final List<DotName> SESSION_EXPOSED_TYPES = Arrays.asList(ClassNames.ENTITY_MANAGER, ClassNames.SESSION);
+    private static final List<DotName> STATELESS_SESSION_EXPOSED_TYPES = List.of(ClassNames.STATELESS_SESSION);
 
     private static final Set<DotName> PERSISTENCE_UNIT_EXTENSION_VALID_TYPES = Set.of(
             ClassNames.TENANT_RESOLVER,
@@ -135,6 +137,13 @@ public class HibernateOrmCdiProcessor {
                             recorder.sessionSupplier(persistenceUnitName),
                             false));
 
+            syntheticBeanBuildItemBuildProducer
+                    .produce(createSyntheticBean(persistenceUnitName,
+                            true,
+                            StatelessSession.class, STATELESS_SESSION_EXPOSED_TYPES,
+                            recorder.statelessSessionSupplier(persistenceUnitName),
+                            false));
+
             return;
         }
 
@@ -154,6 +163,13 @@ public class HibernateOrmCdiProcessor {
                             Session.class, SESSION_EXPOSED_TYPES,
                             recorder.sessionSupplier(persistenceUnitName),
                             false));
+
+            syntheticBeanBuildItemBuildProducer
+                    .produce(createSyntheticBean(persistenceUnitName,
+                            PersistenceUnitUtil.isDefaultPersistenceUnit(persistenceUnitName),
+                            StatelessSession.class, STATELESS_SESSION_EXPOSED_TYPES,
+                            recorder.statelessSessionSupplier(persistenceUnitName),
+                            false));
         }
     }
 
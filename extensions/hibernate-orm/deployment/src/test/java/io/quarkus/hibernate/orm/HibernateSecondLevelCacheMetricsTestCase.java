@@ -0,0 +1,103 @@
+package io.quarkus.hibernate.orm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import javax.inject.Inject;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.EntityManager;
+import javax.persistence.Id;
+import javax.transaction.UserTransaction;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Checks the per-region metrics exposed for the second level cache.
+ */
+public class HibernateSecondLevelCacheMetricsTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot((jar) -> jar
+            .addAsResource("application-metrics-enabled.properties", "application.properties")
+            .addClasses(CachedEntity.class));
+
+    private static final Tag PU_TAG = new Tag("entityManagerFactory", PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME);
+    private static final Tag REGION_TAG = new Tag("region", CachedEntity.class.getName());
+
+    @Entity(name = "CachedEntity")
+    @Cacheable
+    static class CachedEntity {
+
+        @Id
+        private Long number;
+
+        public Long getNumber() {
+            return number;
+        }
+
+        public void setNumber(Long number) {
+            this.number = number;
+        }
+    }
+
+    @Inject
+    EntityManager em;
+
+    @Inject
+    UserTransaction transaction;
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry metricRegistry;
+
+    @Test
+    public void testRegionMetrics() throws Exception {
+        assertEquals(0L, getCounterValueOrNull("hibernate.second.level.cache.requests", PU_TAG,
+                new Tag("result", "hit"), REGION_TAG));
+        assertEquals(0L, getGaugeValueOrNull("hibernate.second.level.cache.size", PU_TAG, REGION_TAG));
+
+        Arc.container().requestContext().activate();
+        try {
+            transaction.begin();
+            CachedEntity entity = new CachedEntity();
+            entity.number = 1L;
+            em.persist(entity);
+            transaction.commit();
+            em.clear();
+
+            transaction.begin();
+            assertNotNull(em.find(CachedEntity.class, 1L));
+            transaction.commit();
+        } finally {
+            Arc.container().requestContext().terminate();
+        }
+
+        assertEquals(1L, getCounterValueOrNull("hibernate.second.level.cache.puts", PU_TAG, REGION_TAG));
+        assertEquals(1L, getCounterValueOrNull("hibernate.second.level.cache.requests", PU_TAG,
+                new Tag("result", "hit"), REGION_TAG));
+        assertEquals(1L, getGaugeValueOrNull("hibernate.second.level.cache.size", PU_TAG, REGION_TAG));
+    }
+
+    public Long getCounterValueOrNull(String metricName, Tag... tags) {
+        Counter metric = metricRegistry.getCounters().get(new MetricID(metricName, tags));
+        return metric != null ? metric.getCount() : null;
+    }
+
+    public Long getGaugeValueOrNull(String metricName, Tag... tags) {
+        Gauge<?> metric = metricRegistry.getGauges().get(new MetricID(metricName, tags));
+        return metric != null ? ((Number) metric.getValue()).longValue() : null;
+    }
+
+}
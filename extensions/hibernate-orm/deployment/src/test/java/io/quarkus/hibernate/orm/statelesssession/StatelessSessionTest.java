@@ -0,0 +1,103 @@
+package io.quarkus.hibernate.orm.statelesssession;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.stream.Stream;
+
+import javax.inject.Inject;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.TransactionRequiredException;
+import javax.transaction.RollbackException;
+import javax.transaction.UserTransaction;
+
+import org.hibernate.SharedSessionContract;
+import org.hibernate.StatelessSession;
+import org.hibernate.query.spi.QueryImplementor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StatelessSessionTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(StreamedEntity.class)
+                    .addAsResource("application.properties"));
+
+    @Inject
+    StatelessSession statelessSession;
+
+    @Inject
+    UserTransaction transaction;
+
+    @Test
+    public void testInsertAndStream() throws Exception {
+        transaction.begin();
+        for (long i = 1; i <= 100; i++) {
+            StreamedEntity entity = new StreamedEntity();
+            entity.id = i;
+            entity.name = "entity" + i;
+            statelessSession.insert(entity);
+        }
+        transaction.commit();
+
+        transaction.begin();
+        try (Stream<StreamedEntity> stream = statelessSession
+                .createQuery("from StreamedEntity e order by e.id", StreamedEntity.class)
+                .setFetchSize(10)
+                .stream()) {
+            assertEquals(5050L, stream.mapToLong(e -> e.id).sum());
+        }
+        assertEquals("entity42", ((StreamedEntity) statelessSession.get(StreamedEntity.class, 42L)).name);
+        transaction.commit();
+    }
+
+    @Test
+    public void testInsertIsRolledBack() throws Exception {
+        transaction.begin();
+        StreamedEntity entity = new StreamedEntity();
+        entity.id = 1000L;
+        entity.name = "rolledBack";
+        statelessSession.insert(entity);
+        // the queries expose the session of the transaction
+        SharedSessionContract session = (SharedSessionContract) ((QueryImplementor<?>) statelessSession
+                .createQuery("from StreamedEntity", StreamedEntity.class)).getProducer();
+        transaction.setRollbackOnly();
+        assertThrows(RollbackException.class, transaction::commit);
+        assertFalse(session.isOpen());
+
+        transaction.begin();
+        assertNull(statelessSession.get(StreamedEntity.class, 1000L));
+        transaction.commit();
+    }
+
+    @Test
+    public void testInsertRequiresTransaction() {
+        Arc.container().requestContext().activate();
+        try {
+            assertThrows(TransactionRequiredException.class, () -> {
+                StreamedEntity entity = new StreamedEntity();
+                entity.id = 0L;
+                statelessSession.insert(entity);
+            });
+        } finally {
+            Arc.container().requestContext().terminate();
+        }
+    }
+
+    @Entity(name = "StreamedEntity")
+    public static class StreamedEntity {
+
+        @Id
+        public Long id;
+
+        public String name;
+    }
+}
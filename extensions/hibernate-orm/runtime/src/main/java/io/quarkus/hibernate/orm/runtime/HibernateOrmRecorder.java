@@ -14,6 +14,7 @@ import org.eclipse.microprofile.config.ConfigProvider;
 import org.hibernate.MultiTenancyStrategy;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
 import org.hibernate.boot.archive.scan.spi.Scanner;
 import org.hibernate.integrator.spi.Integrator;
 import org.jboss.logging.Logger;
@@ -26,6 +27,7 @@ import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrationRunti
 import io.quarkus.hibernate.orm.runtime.proxies.PreGeneratedProxies;
 import io.quarkus.hibernate.orm.runtime.schema.SchemaManagementIntegrator;
 import io.quarkus.hibernate.orm.runtime.session.ForwardingSession;
+import io.quarkus.hibernate.orm.runtime.session.ForwardingStatelessSession;
 import io.quarkus.hibernate.orm.runtime.tenant.DataSourceTenantConnectionResolver;
 import io.quarkus.runtime.annotations.Recorder;
 
@@ -135,6 +137,24 @@ public class HibernateOrmRecorder {
         };
     }
 
+    public Supplier<StatelessSession> statelessSessionSupplier(String persistenceUnitName) {
+        return new Supplier<StatelessSession>() {
+            @Override
+            public StatelessSession get() {
+                TransactionSessions transactionSessions = Arc.container()
+                        .instance(TransactionSessions.class).get();
+                ForwardingStatelessSession statelessSession = new ForwardingStatelessSession() {
+
+                    @Override
+                    protected StatelessSession delegate() {
+                        return transactionSessions.getStatelessSession(persistenceUnitName);
+                    }
+                };
+                return statelessSession;
+            }
+        };
+    }
+
     public void doValidation(String puName) {
         Optional<String> val;
         if (puName.equals(PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME)) {
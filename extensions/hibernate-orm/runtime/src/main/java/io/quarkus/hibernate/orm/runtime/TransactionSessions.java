@@ -11,9 +11,11 @@ import javax.transaction.TransactionSynchronizationRegistry;
 
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.hibernate.orm.runtime.session.TransactionScopedSession;
+import io.quarkus.hibernate.orm.runtime.session.TransactionScopedStatelessSession;
 
 @ApplicationScoped
 public class TransactionSessions {
@@ -24,10 +26,15 @@ public class TransactionSessions {
     @Inject
     Instance<RequestScopedSessionHolder> requestScopedSession;
 
+    @Inject
+    Instance<RequestScopedStatelessSessionHolder> requestScopedStatelessSession;
+
     private final ConcurrentMap<String, TransactionScopedSession> sessions;
+    private final ConcurrentMap<String, TransactionScopedStatelessSession> statelessSessions;
 
     public TransactionSessions() {
         this.sessions = new ConcurrentHashMap<>();
+        this.statelessSessions = new ConcurrentHashMap<>();
     }
 
     public Session getSession(String unitName) {
@@ -41,6 +48,17 @@ public class TransactionSessions {
                 requestScopedSession));
     }
 
+    public StatelessSession getStatelessSession(String unitName) {
+        TransactionScopedStatelessSession session = statelessSessions.get(unitName);
+        if (session != null) {
+            return session;
+        }
+        return statelessSessions.computeIfAbsent(unitName, (un) -> new TransactionScopedStatelessSession(
+                getTransactionManager(), getTransactionSynchronizationRegistry(),
+                jpaConfig.getEntityManagerFactory(un).unwrap(SessionFactory.class), un,
+                requestScopedStatelessSession));
+    }
+
     private TransactionManager getTransactionManager() {
         return Arc.container()
                 .instance(TransactionManager.class).get();
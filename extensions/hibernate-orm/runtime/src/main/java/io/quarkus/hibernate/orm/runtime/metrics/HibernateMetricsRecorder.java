@@ -1,6 +1,5 @@
 package io.quarkus.hibernate.orm.runtime.metrics;
 
-import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -87,23 +86,12 @@ public class HibernateMetricsRecorder {
                 "status", "closed");
 
         // Second Level Caching
-        Arrays.stream(statistics.getSecondLevelCacheRegionNames())
-                .filter(regionName -> this.hasDomainDataRegionStatistics(statistics, regionName))
-                .forEach(regionName -> {
-                    CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(regionName);
-                    createStatisticsCounter(metricsFactory, "hibernate.second.level.cache.requests",
-                            "The number of requests made to second level cache (see result for hit or miss)",
-                            puName, regionStatistics, CacheRegionStatistics::getHitCount,
-                            "result", "hit", "region", regionName);
-                    createStatisticsCounter(metricsFactory, "hibernate.second.level.cache.requests",
-                            "The number of requests made to second level cache (see result for hit or miss)",
-                            puName, regionStatistics, CacheRegionStatistics::getMissCount,
-                            "result", "miss", "region", regionName);
-                    createStatisticsCounter(metricsFactory, "hibernate.second.level.cache.puts",
-                            "The number of entities/collections put in the second level cache",
-                            puName, regionStatistics, CacheRegionStatistics::getPutCount,
-                            "region", regionName);
-                });
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            if (this.hasDomainDataRegionStatistics(statistics, regionName)) {
+                registerRegionMetrics(metricsFactory, puName, regionName,
+                        statistics.getDomainDataRegionStatistics(regionName));
+            }
+        }
 
         // Entity Information
         createStatisticsCounter(metricsFactory, "hibernate.entities.loads",
@@ -203,6 +191,29 @@ public class HibernateMetricsRecorder {
                 puName, statistics, Statistics::getUpdateTimestampsCachePutCount);
     }
 
+    void registerRegionMetrics(MetricsFactory metricsFactory, String puName, String regionName,
+            CacheRegionStatistics regionStatistics) {
+        createStatisticsCounter(metricsFactory, "hibernate.second.level.cache.requests",
+                "The number of requests made to second level cache (see result for hit or miss)",
+                puName, regionStatistics, CacheRegionStatistics::getHitCount,
+                "result", "hit", "region", regionName);
+        createStatisticsCounter(metricsFactory, "hibernate.second.level.cache.requests",
+                "The number of requests made to second level cache (see result for hit or miss)",
+                puName, regionStatistics, CacheRegionStatistics::getMissCount,
+                "result", "miss", "region", regionName);
+        createStatisticsCounter(metricsFactory, "hibernate.second.level.cache.puts",
+                "The number of entities/collections put in the second level cache",
+                puName, regionStatistics, CacheRegionStatistics::getPutCount,
+                "region", regionName);
+        // Only available if the region factory supports extended statistics
+        if (regionStatistics.getElementCountInMemory() != CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN) {
+            createBuilder(metricsFactory, "hibernate.second.level.cache.size",
+                    "The number of entries currently held in memory by the second level cache region",
+                    puName, "region", regionName)
+                            .buildGauge(regionStatistics, CacheRegionStatistics::getElementCountInMemory);
+        }
+    }
+
     <T> void createStatisticsCounter(MetricsFactory metricsFactory, String metricName, String description,
             String puName, T statistics, Function<T, Long> f, String... tags) {
 
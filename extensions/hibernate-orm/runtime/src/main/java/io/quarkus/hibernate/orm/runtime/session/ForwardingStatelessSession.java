@@ -0,0 +1,274 @@
+package io.quarkus.hibernate.orm.runtime.session;
+
+import java.io.Serializable;
+import java.sql.Connection;
+
+import javax.persistence.criteria.CriteriaDelete;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.CriteriaUpdate;
+
+import org.hibernate.Criteria;
+import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.jdbc.ReturningWork;
+import org.hibernate.jdbc.Work;
+import org.hibernate.procedure.ProcedureCall;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.query.Query;
+
+public abstract class ForwardingStatelessSession implements StatelessSession {
+
+    protected abstract StatelessSession delegate();
+
+    @Override
+    public void close() {
+        delegate().close();
+    }
+
+    @Override
+    public Serializable insert(Object entity) {
+        return delegate().insert(entity);
+    }
+
+    @Override
+    public Serializable insert(String entityName, Object entity) {
+        return delegate().insert(entityName, entity);
+    }
+
+    @Override
+    public void update(Object entity) {
+        delegate().update(entity);
+    }
+
+    @Override
+    public void update(String entityName, Object entity) {
+        delegate().update(entityName, entity);
+    }
+
+    @Override
+    public void delete(Object entity) {
+        delegate().delete(entity);
+    }
+
+    @Override
+    public void delete(String entityName, Object entity) {
+        delegate().delete(entityName, entity);
+    }
+
+    @Override
+    public Object get(String entityName, Serializable id) {
+        return delegate().get(entityName, id);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Object get(Class entityClass, Serializable id) {
+        return delegate().get(entityClass, id);
+    }
+
+    @Override
+    public Object get(String entityName, Serializable id, LockMode lockMode) {
+        return delegate().get(entityName, id, lockMode);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Object get(Class entityClass, Serializable id, LockMode lockMode) {
+        return delegate().get(entityClass, id, lockMode);
+    }
+
+    @Override
+    public void refresh(Object entity) {
+        delegate().refresh(entity);
+    }
+
+    @Override
+    public void refresh(String entityName, Object entity) {
+        delegate().refresh(entityName, entity);
+    }
+
+    @Override
+    public void refresh(Object entity, LockMode lockMode) {
+        delegate().refresh(entity, lockMode);
+    }
+
+    @Override
+    public void refresh(String entityName, Object entity, LockMode lockMode) {
+        delegate().refresh(entityName, entity, lockMode);
+    }
+
+    @Override
+    @Deprecated
+    public Connection connection() {
+        return delegate().connection();
+    }
+
+    @Override
+    public String getTenantIdentifier() {
+        return delegate().getTenantIdentifier();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return delegate().isOpen();
+    }
+
+    @Override
+    public boolean isConnected() {
+        return delegate().isConnected();
+    }
+
+    @Override
+    public Transaction beginTransaction() {
+        return delegate().beginTransaction();
+    }
+
+    @Override
+    public Transaction getTransaction() {
+        return delegate().getTransaction();
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Query createQuery(String queryString) {
+        return delegate().createQuery(queryString);
+    }
+
+    @Override
+    public <T> Query<T> createQuery(String queryString, Class<T> resultType) {
+        return delegate().createQuery(queryString, resultType);
+    }
+
+    @Override
+    public <T> Query<T> createQuery(CriteriaQuery<T> criteriaQuery) {
+        return delegate().createQuery(criteriaQuery);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Query createQuery(CriteriaUpdate updateQuery) {
+        return delegate().createQuery(updateQuery);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Query createQuery(CriteriaDelete deleteQuery) {
+        return delegate().createQuery(deleteQuery);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Query getNamedQuery(String queryName) {
+        return delegate().getNamedQuery(queryName);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Query createNamedQuery(String name) {
+        return delegate().createNamedQuery(name);
+    }
+
+    @Override
+    public <T> Query<T> createNamedQuery(String name, Class<T> resultClass) {
+        return delegate().createNamedQuery(name, resultClass);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public NativeQuery createNativeQuery(String sqlString) {
+        return delegate().createNativeQuery(sqlString);
+    }
+
+    @Override
+    public <R> NativeQuery<R> createNativeQuery(String sqlString, Class<R> resultClass) {
+        return delegate().createNativeQuery(sqlString, resultClass);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public NativeQuery createNativeQuery(String sqlString, String resultSetMapping) {
+        return delegate().createNativeQuery(sqlString, resultSetMapping);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public NativeQuery getNamedNativeQuery(String name) {
+        return delegate().getNamedNativeQuery(name);
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("rawtypes")
+    public NativeQuery createSQLQuery(String queryString) {
+        return delegate().createSQLQuery(queryString);
+    }
+
+    @Override
+    public ProcedureCall getNamedProcedureCall(String name) {
+        return delegate().getNamedProcedureCall(name);
+    }
+
+    @Override
+    public ProcedureCall createStoredProcedureCall(String procedureName) {
+        return delegate().createStoredProcedureCall(procedureName);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public ProcedureCall createStoredProcedureCall(String procedureName, Class... resultClasses) {
+        return delegate().createStoredProcedureCall(procedureName, resultClasses);
+    }
+
+    @Override
+    public ProcedureCall createStoredProcedureCall(String procedureName, String... resultSetMappings) {
+        return delegate().createStoredProcedureCall(procedureName, resultSetMappings);
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("rawtypes")
+    public Criteria createCriteria(Class persistentClass) {
+        return delegate().createCriteria(persistentClass);
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("rawtypes")
+    public Criteria createCriteria(Class persistentClass, String alias) {
+        return delegate().createCriteria(persistentClass, alias);
+    }
+
+    @Override
+    @Deprecated
+    public Criteria createCriteria(String entityName) {
+        return delegate().createCriteria(entityName);
+    }
+
+    @Override
+    @Deprecated
+    public Criteria createCriteria(String entityName, String alias) {
+        return delegate().createCriteria(entityName, alias);
+    }
+
+    @Override
+    public Integer getJdbcBatchSize() {
+        return delegate().getJdbcBatchSize();
+    }
+
+    @Override
+    public void setJdbcBatchSize(Integer jdbcBatchSize) {
+        delegate().setJdbcBatchSize(jdbcBatchSize);
+    }
+
+    @Override
+    public void doWork(Work work) throws HibernateException {
+        delegate().doWork(work);
+    }
+
+    @Override
+    public <T> T doReturningWork(ReturningWork<T> work) throws HibernateException {
+        return delegate().doReturningWork(work);
+    }
+}
@@ -0,0 +1,528 @@
+package io.quarkus.hibernate.orm.runtime.session;
+
+import java.io.Serializable;
+import java.sql.Connection;
+
+import javax.enterprise.inject.Instance;
+import javax.persistence.TransactionRequiredException;
+import javax.persistence.criteria.CriteriaDelete;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionManager;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import org.hibernate.Criteria;
+import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.jdbc.ReturningWork;
+import org.hibernate.jdbc.Work;
+import org.hibernate.procedure.ProcedureCall;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.query.Query;
+
+import io.quarkus.hibernate.orm.runtime.RequestScopedStatelessSessionHolder;
+import io.quarkus.runtime.BlockingOperationControl;
+import io.quarkus.runtime.BlockingOperationNotAllowedException;
+
+/**
+ * A stateless session bound to the current transaction, or to the current request if there is no active transaction.
+ * <p>
+ * Stateless sessions do not keep the loaded entities in a persistence context,
+ * which makes them a good fit for streaming large result sets, e.g. with {@link Query#stream()}.
+ */
+public class TransactionScopedStatelessSession implements StatelessSession {
+
+    protected static final String TRANSACTION_IS_NOT_ACTIVE = "Transaction is not active, consider adding @Transactional to your method to automatically activate one.";
+
+    private final TransactionManager transactionManager;
+    private final TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+    private final SessionFactory sessionFactory;
+    private final String unitName;
+    private final String sessionKey;
+    private final Instance<RequestScopedStatelessSessionHolder> requestScopedSessions;
+
+    public TransactionScopedStatelessSession(TransactionManager transactionManager,
+            TransactionSynchronizationRegistry transactionSynchronizationRegistry,
+            SessionFactory sessionFactory,
+            String unitName,
+            Instance<RequestScopedStatelessSessionHolder> requestScopedSessions) {
+        this.transactionManager = transactionManager;
+        this.transactionSynchronizationRegistry = transactionSynchronizationRegistry;
+        this.sessionFactory = sessionFactory;
+        this.unitName = unitName;
+        this.sessionKey = this.getClass().getSimpleName() + "-" + unitName;
+        this.requestScopedSessions = requestScopedSessions;
+    }
+
+    SessionResult acquireSession() {
+        if (isInTransaction()) {
+            StatelessSession session = (StatelessSession) transactionSynchronizationRegistry.getResource(sessionKey);
+            if (session != null) {
+                return new SessionResult(session, true);
+            }
+            // The session automatically joins the JTA transaction when it is constructed,
+            // and its connection is enlisted in the transaction by the datasource,
+            // so its changes are committed or rolled back along with the transaction.
+            StatelessSession newSession = sessionFactory.openStatelessSession();
+            transactionSynchronizationRegistry.putResource(sessionKey, newSession);
+            // Contrary to a regular session, Hibernate ORM doesn't close a stateless session
+            // upon transaction completion, so we need to do it ourselves.
+            transactionSynchronizationRegistry.registerInterposedSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    newSession.close();
+                }
+            });
+            return new SessionResult(newSession, true);
+        } else {
+            //this will throw an exception if the request scope is not active
+            //this is expected as either the request scope or an active transaction
+            //is required to properly managed the session lifecycle
+            RequestScopedStatelessSessionHolder requestScopedSessions = this.requestScopedSessions.get();
+            return new SessionResult(requestScopedSessions.getOrCreateSession(unitName, sessionFactory), false);
+        }
+    }
+
+    private void checkBlocking() {
+        if (!BlockingOperationControl.isBlockingAllowed()) {
+            throw new BlockingOperationNotAllowedException(
+                    "You have attempted to perform a blocking operation on a IO thread. This is not allowed, as blocking the IO thread will cause major performance issues with your application. If you want to perform blocking StatelessSession operations make sure you are doing it from a worker thread.");
+        }
+    }
+
+    private boolean isInTransaction() {
+        try {
+            switch (transactionManager.getStatus()) {
+                case Status.STATUS_ACTIVE:
+                case Status.STATUS_COMMITTING:
+                case Status.STATUS_MARKED_ROLLBACK:
+                case Status.STATUS_PREPARED:
+                case Status.STATUS_PREPARING:
+                    return true;
+                default:
+                    return false;
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        throw new IllegalStateException("Not supported for transaction scoped stateless sessions");
+    }
+
+    @Override
+    public Serializable insert(Object entity) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            if (!emr.allowModification) {
+                throw new TransactionRequiredException(TRANSACTION_IS_NOT_ACTIVE);
+            }
+            return emr.statelessSession.insert(entity);
+        }
+    }
+
+    @Override
+    public Serializable insert(String entityName, Object entity) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            if (!emr.allowModification) {
+                throw new TransactionRequiredException(TRANSACTION_IS_NOT_ACTIVE);
+            }
+            return emr.statelessSession.insert(entityName, entity);
+        }
+    }
+
+    @Override
+    public void update(Object entity) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            if (!emr.allowModification) {
+                throw new TransactionRequiredException(TRANSACTION_IS_NOT_ACTIVE);
+            }
+            emr.statelessSession.update(entity);
+        }
+    }
+
+    @Override
+    public void update(String entityName, Object entity) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            if (!emr.allowModification) {
+                throw new TransactionRequiredException(TRANSACTION_IS_NOT_ACTIVE);
+            }
+            emr.statelessSession.update(entityName, entity);
+        }
+    }
+
+    @Override
+    public void delete(Object entity) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            if (!emr.allowModification) {
+                throw new TransactionRequiredException(TRANSACTION_IS_NOT_ACTIVE);
+            }
+            emr.statelessSession.delete(entity);
+        }
+    }
+
+    @Override
+    public void delete(String entityName, Object entity) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            if (!emr.allowModification) {
+                throw new TransactionRequiredException(TRANSACTION_IS_NOT_ACTIVE);
+            }
+            emr.statelessSession.delete(entityName, entity);
+        }
+    }
+
+    @Override
+    public Object get(String entityName, Serializable id) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.get(entityName, id);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Object get(Class entityClass, Serializable id) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.get(entityClass, id);
+        }
+    }
+
+    @Override
+    public Object get(String entityName, Serializable id, LockMode lockMode) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.get(entityName, id, lockMode);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Object get(Class entityClass, Serializable id, LockMode lockMode) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.get(entityClass, id, lockMode);
+        }
+    }
+
+    @Override
+    public void refresh(Object entity) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            emr.statelessSession.refresh(entity);
+        }
+    }
+
+    @Override
+    public void refresh(String entityName, Object entity) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            emr.statelessSession.refresh(entityName, entity);
+        }
+    }
+
+    @Override
+    public void refresh(Object entity, LockMode lockMode) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            emr.statelessSession.refresh(entity, lockMode);
+        }
+    }
+
+    @Override
+    public void refresh(String entityName, Object entity, LockMode lockMode) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            emr.statelessSession.refresh(entityName, entity, lockMode);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public Connection connection() {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.connection();
+        }
+    }
+
+    @Override
+    public String getTenantIdentifier() {
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.getTenantIdentifier();
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return true;
+    }
+
+    @Override
+    public boolean isConnected() {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.isConnected();
+        }
+    }
+
+    @Override
+    public Transaction beginTransaction() {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.beginTransaction();
+        }
+    }
+
+    @Override
+    public Transaction getTransaction() {
+        throw new IllegalStateException("Not supported for JTA stateless sessions");
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Query createQuery(String queryString) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.createQuery(queryString);
+        }
+    }
+
+    @Override
+    public <T> Query<T> createQuery(String queryString, Class<T> resultType) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.createQuery(queryString, resultType);
+        }
+    }
+
+    @Override
+    public <T> Query<T> createQuery(CriteriaQuery<T> criteriaQuery) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.createQuery(criteriaQuery);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Query createQuery(CriteriaUpdate updateQuery) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.createQuery(updateQuery);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Query createQuery(CriteriaDelete deleteQuery) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.createQuery(deleteQuery);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Query getNamedQuery(String queryName) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.getNamedQuery(queryName);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Query createNamedQuery(String name) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.createNamedQuery(name);
+        }
+    }
+
+    @Override
+    public <T> Query<T> createNamedQuery(String name, Class<T> resultClass) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.createNamedQuery(name, resultClass);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public NativeQuery createNativeQuery(String sqlString) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.createNativeQuery(sqlString);
+        }
+    }
+
+    @Override
+    public <R> NativeQuery<R> createNativeQuery(String sqlString, Class<R> resultClass) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.createNativeQuery(sqlString, resultClass);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public NativeQuery createNativeQuery(String sqlString, String resultSetMapping) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.createNativeQuery(sqlString, resultSetMapping);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public NativeQuery getNamedNativeQuery(String name) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.getNamedNativeQuery(name);
+        }
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("rawtypes")
+    public NativeQuery createSQLQuery(String queryString) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.createSQLQuery(queryString);
+        }
+    }
+
+    @Override
+    public ProcedureCall getNamedProcedureCall(String name) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.getNamedProcedureCall(name);
+        }
+    }
+
+    @Override
+    public ProcedureCall createStoredProcedureCall(String procedureName) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.createStoredProcedureCall(procedureName);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public ProcedureCall createStoredProcedureCall(String procedureName, Class... resultClasses) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.createStoredProcedureCall(procedureName, resultClasses);
+        }
+    }
+
+    @Override
+    public ProcedureCall createStoredProcedureCall(String procedureName, String... resultSetMappings) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.createStoredProcedureCall(procedureName, resultSetMappings);
+        }
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("rawtypes")
+    public Criteria createCriteria(Class persistentClass) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.createCriteria(persistentClass);
+        }
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("rawtypes")
+    public Criteria createCriteria(Class persistentClass, String alias) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.createCriteria(persistentClass, alias);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public Criteria createCriteria(String entityName) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.createCriteria(entityName);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public Criteria createCriteria(String entityName, String alias) {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.createCriteria(entityName, alias);
+        }
+    }
+
+    @Override
+    public Integer getJdbcBatchSize() {
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.getJdbcBatchSize();
+        }
+    }
+
+    @Override
+    public void setJdbcBatchSize(Integer jdbcBatchSize) {
+        try (SessionResult emr = acquireSession()) {
+            emr.statelessSession.setJdbcBatchSize(jdbcBatchSize);
+        }
+    }
+
+    @Override
+    public void doWork(Work work) throws HibernateException {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            emr.statelessSession.doWork(work);
+        }
+    }
+
+    @Override
+    public <T> T doReturningWork(ReturningWork<T> work) throws HibernateException {
+        checkBlocking();
+        try (SessionResult emr = acquireSession()) {
+            return emr.statelessSession.doReturningWork(work);
+        }
+    }
+
+    static class SessionResult implements AutoCloseable {
+
+        final StatelessSession statelessSession;
+        final boolean allowModification;
+
+        SessionResult(StatelessSession statelessSession, boolean allowModification) {
+            this.statelessSession = statelessSession;
+            this.allowModification = allowModification;
+        }
+
+        @Override
+        public void close() {
+            // the session is closed when the transaction or the request ends
+        }
+    }
+}
@@ -35,6 +35,7 @@ import io.quarkus.kafka.streams.runtime.KafkaStreamsProducer;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsRecorder;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsRuntimeConfig;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsSupport;
+import io.quarkus.kafka.streams.runtime.QuarkusRocksDBConfigSetter;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
 
 class KafkaStreamsProcessor {
@@ -75,6 +76,7 @@ class KafkaStreamsProcessor {
                 org.apache.kafka.streams.processor.internals.assignment.StickyTaskAssignor.class));
         reflectiveClasses.produce(new ReflectiveClassBuildItem(true, true, true,
                 org.apache.kafka.streams.processor.internals.assignment.FallbackPriorTaskAssignor.class));
+        reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, false, QuarkusRocksDBConfigSetter.class));
     }
 
     private void registerClassesThatClientMaySpecify(BuildProducer<ReflectiveClassBuildItem> reflectiveClasses,
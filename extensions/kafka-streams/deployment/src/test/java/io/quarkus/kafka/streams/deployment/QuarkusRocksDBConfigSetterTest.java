@@ -0,0 +1,115 @@
+package io.quarkus.kafka.streams.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Produces;
+
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.Topology;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.Stores;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.rocksdb.Cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.kafka.streams.runtime.QuarkusRocksDBConfigSetter;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class QuarkusRocksDBConfigSetterTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TopologyProducer.class))
+            // the setter referenced by name, as it would be in application.properties
+            .overrideConfigKey("kafka-streams.rocksdb.config.setter", QuarkusRocksDBConfigSetter.class.getName())
+            .overrideConfigKey("quarkus.kafka-streams.rocksdb.block-cache-size", "8M")
+            .overrideConfigKey("quarkus.kafka-streams.rocksdb.write-buffer-size", "1M")
+            .overrideConfigKey("quarkus.kafka-streams.bootstrap-servers", "localhost:1")
+            // keep the pipeline from starting, there is no broker
+            .overrideConfigKey("quarkus.kafka-streams.topics", "input");
+
+    @TempDir
+    Path stateDir;
+
+    private static final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeAll
+    static void addSimpleRegistry() {
+        Metrics.globalRegistry.add(registry);
+    }
+
+    @AfterAll
+    static void removeSimpleRegistry() {
+        Metrics.globalRegistry.remove(registry);
+        registry.close();
+    }
+
+    @Test
+    public void testStoresShareTheBlockCache() throws Exception {
+        Cache cache = QuarkusRocksDBConfigSetter.getSharedBlockCache();
+        assertNotNull(cache, "The shared block cache should have been created");
+
+        Properties properties = new Properties();
+        properties.put(StreamsConfig.APPLICATION_ID_CONFIG, "rocksdb-test");
+        properties.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:1");
+        properties.put(StreamsConfig.STATE_DIR_CONFIG, Files.createDirectories(stateDir).toString());
+        properties.put(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG, QuarkusRocksDBConfigSetter.class.getName());
+        try (TopologyTestDriver driver = new TopologyTestDriver(TopologyProducer.topology(), properties)) {
+            TestInputTopic<String, String> input = driver.createInputTopic("input", new StringSerializer(),
+                    new StringSerializer());
+            for (int i = 0; i < 1000; i++) {
+                input.pipeInput("key-" + i, "value-" + i);
+            }
+            KeyValueStore<String, String> store = driver.getKeyValueStore("table");
+            for (int i = 0; i < 1000; i++) {
+                assertEquals("value-" + i, store.get("key-" + i));
+            }
+
+            // the memtables of the store are charged to the shared cache
+            assertTrue(cache.getUsage() > 0);
+            Gauge usage = Metrics.globalRegistry.get("kafka.stream.rocksdb.shared.block.cache.usage").gauge();
+            assertEquals(cache.getUsage(), usage.value());
+            assertNotNull(Metrics.globalRegistry.get("kafka.stream.rocksdb.shared.block.cache.pinned.usage").gauge());
+        }
+    }
+
+    @ApplicationScoped
+    public static class TopologyProducer {
+
+        @Produces
+        public Topology produce() {
+            return topology();
+        }
+
+        static Topology topology() {
+            StreamsBuilder builder = new StreamsBuilder();
+            builder.table("input", Consumed.with(Serdes.String(), Serdes.String()),
+                    Materialized.<String, String> as(Stores.persistentKeyValueStore("table"))
+                            .withKeySerde(Serdes.String())
+                            .withValueSerde(Serdes.String()));
+            return builder.build();
+        }
+    }
+
+}
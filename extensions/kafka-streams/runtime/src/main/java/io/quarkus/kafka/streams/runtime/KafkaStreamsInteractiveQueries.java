@@ -0,0 +1,185 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.KafkaStreams.State;
+import org.apache.kafka.streams.KafkaStreams.StateListener;
+import org.apache.kafka.streams.KeyQueryMetadata;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StoreQueryParameters;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.HostInfo;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.jboss.logging.Logger;
+
+/**
+ * Serves interactive queries against the key-value state stores of the running Kafka Streams pipeline.
+ * <p>
+ * Store handles are looked up once and cached until the next rebalance, so reads do not pay for a
+ * {@link KafkaStreams#store(StoreQueryParameters)} lookup each time. Keys that are not hosted by this instance can be
+ * resolved to the {@link HostInfo} of the owning instance (as declared by its {@code application.server}), which the
+ * application can then forward the query to, e.g. using the reactive REST client.
+ */
+public class KafkaStreamsInteractiveQueries implements StateListener {
+
+    private static final Logger LOGGER = Logger.getLogger(KafkaStreamsInteractiveQueries.class.getName());
+
+    private final KafkaStreams kafkaStreams;
+    private final Optional<HostInfo> localHost;
+    private final ConcurrentMap<String, ReadOnlyKeyValueStore<?, ?>> keyValueStores = new ConcurrentHashMap<>();
+    // incremented each time the cached handles are invalidated
+    private final AtomicLong generation = new AtomicLong();
+
+    public KafkaStreamsInteractiveQueries(KafkaStreams kafkaStreams, Optional<String> applicationServer) {
+        this.kafkaStreams = kafkaStreams;
+        this.localHost = applicationServer.map(HostInfo::buildFromEndpoint);
+    }
+
+    @Override
+    public void onChange(State newState, State oldState) {
+        if (newState != State.RUNNING) {
+            // store partitions may move to another instance, the cached handles must be looked up again
+            generation.incrementAndGet();
+            keyValueStores.clear();
+        }
+    }
+
+    /**
+     * Returns the local key-value store with the given name, or an empty optional if the store is not queryable
+     * (yet), e.g. because the pipeline is rebalancing.
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> Optional<ReadOnlyKeyValueStore<K, V>> keyValueStore(String storeName) {
+        ReadOnlyKeyValueStore<?, ?> store = keyValueStores.get(storeName);
+        if (store == null) {
+            long lookupGeneration = generation.get();
+            if (kafkaStreams.state() != State.RUNNING) {
+                return Optional.empty();
+            }
+            try {
+                store = kafkaStreams.store(StoreQueryParameters.fromNameAndType(storeName,
+                        QueryableStoreTypes.keyValueStore()));
+            } catch (InvalidStateStoreException e) {
+                LOGGER.debugf(e, "State store %s is not queryable", storeName);
+                return Optional.empty();
+            }
+            keyValueStores.put(storeName, store);
+            if (lookupGeneration != generation.get() || kafkaStreams.state() != State.RUNNING) {
+                // the state changed during the lookup, the handle may already be stale
+                keyValueStores.remove(storeName, store);
+                return Optional.empty();
+            }
+        }
+        return Optional.of((ReadOnlyKeyValueStore<K, V>) store);
+    }
+
+    /**
+     * Returns the metadata of the instance hosting the active replica of the given key, or an empty optional if that
+     * information is not available, e.g. because the pipeline is rebalancing.
+     */
+    public <K> Optional<KeyQueryMetadata> keyMetadata(String storeName, K key, Serializer<K> keySerializer) {
+        KeyQueryMetadata metadata = kafkaStreams.queryMetadataForKey(storeName, key, keySerializer);
+        if (metadata == null || KeyQueryMetadata.NOT_AVAILABLE.equals(metadata)) {
+            return Optional.empty();
+        }
+        return Optional.of(metadata);
+    }
+
+    /**
+     * Returns the host of the instance owning the active replica of the given key.
+     */
+    public <K> Optional<HostInfo> activeHost(String storeName, K key, Serializer<K> keySerializer) {
+        return keyMetadata(storeName, key, keySerializer).map(KeyQueryMetadata::activeHost);
+    }
+
+    /**
+     * Returns the hosts of all instances hosting a part of the given store.
+     */
+    public Collection<HostInfo> storeHosts(String storeName) {
+        return kafkaStreams.streamsMetadataForStore(storeName).stream()
+                .map(m -> m.hostInfo())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns {@code true} if the given host is this application instance.
+     */
+    public boolean isLocal(HostInfo host) {
+        return localHost.map(h -> h.equals(host)).orElse(Boolean.TRUE);
+    }
+
+    /**
+     * Looks up the value of the given key if it is hosted by this instance. Returns an empty optional if the key is
+     * absent, hosted elsewhere or the store is not queryable.
+     */
+    public <K, V> Optional<V> get(String storeName, K key) {
+        Optional<ReadOnlyKeyValueStore<K, V>> store = keyValueStore(storeName);
+        if (store.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(store.get().get(key));
+        } catch (InvalidStateStoreException e) {
+            evict(storeName, store.get(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Streams the local entries of the given store between {@code from} and {@code to} (both inclusive, {@code null}
+     * meaning unbounded), without materializing them. The returned stream must be closed to release the underlying
+     * store iterator.
+     */
+    public <K, V> Stream<KeyValue<K, V>> range(String storeName, K from, K to) {
+        Optional<ReadOnlyKeyValueStore<K, V>> store = keyValueStore(storeName);
+        if (store.isEmpty()) {
+            return Stream.empty();
+        }
+        try {
+            return asStream(store.get().range(from, to));
+        } catch (InvalidStateStoreException e) {
+            evict(storeName, store.get(), e);
+            return Stream.empty();
+        }
+    }
+
+    /**
+     * Streams all local entries of the given store. The returned stream must be closed to release the underlying
+     * store iterator.
+     */
+    public <K, V> Stream<KeyValue<K, V>> all(String storeName) {
+        Optional<ReadOnlyKeyValueStore<K, V>> store = keyValueStore(storeName);
+        if (store.isEmpty()) {
+            return Stream.empty();
+        }
+        try {
+            return asStream(store.get().all());
+        } catch (InvalidStateStoreException e) {
+            evict(storeName, store.get(), e);
+            return Stream.empty();
+        }
+    }
+
+    private void evict(String storeName, ReadOnlyKeyValueStore<?, ?> store, InvalidStateStoreException e) {
+        LOGGER.debugf(e, "State store %s is no longer queryable", storeName);
+        keyValueStores.remove(storeName, store);
+    }
+
+    private static <K, V> Stream<KeyValue<K, V>> asStream(KeyValueIterator<K, V> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false).onClose(iterator::close);
+    }
+}
@@ -34,6 +34,7 @@ import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.admin.ListTopicsResult;
 import org.apache.kafka.common.config.SaslConfigs;
 import org.apache.kafka.common.config.SslConfigs;
+import org.apache.kafka.common.metrics.Sensor;
 import org.apache.kafka.streams.KafkaClientSupplier;
 import org.apache.kafka.streams.KafkaStreams;
 import org.apache.kafka.streams.KafkaStreams.StateListener;
@@ -43,6 +44,7 @@ import org.apache.kafka.streams.errors.StreamsUncaughtExceptionHandler;
 import org.apache.kafka.streams.processor.StateRestoreListener;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.jboss.logging.Logger;
+import org.rocksdb.Cache;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.Unremovable;
@@ -66,6 +68,7 @@ public class KafkaStreamsProducer {
     private final ExecutorService executorService;
     private final KafkaStreams kafkaStreams;
     private final KafkaStreamsTopologyManager kafkaStreamsTopologyManager;
+    private final KafkaStreamsInteractiveQueries kafkaStreamsInteractiveQueries;
     private final Admin kafkaAdminClient;
 
     @Inject
@@ -81,6 +84,7 @@ public class KafkaStreamsProducer {
             this.executorService = null;
             this.kafkaStreams = null;
             this.kafkaStreamsTopologyManager = null;
+            this.kafkaStreamsInteractiveQueries = null;
             this.kafkaAdminClient = null;
             return;
         }
@@ -101,11 +105,20 @@ public class KafkaStreamsProducer {
                 runtimeConfig);
         this.kafkaAdminClient = Admin.create(getAdminClientConfig(kafkaStreamsProperties));
 
+        // the setter may be referenced by class, or by name when configured through kafka-streams.rocksdb.config.setter
+        Object rocksDBConfigSetter = kafkaStreamsProperties.get(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG);
+        if (QuarkusRocksDBConfigSetter.class.equals(rocksDBConfigSetter)
+                || QuarkusRocksDBConfigSetter.class.getName().equals(rocksDBConfigSetter)) {
+            QuarkusRocksDBConfigSetter.initialize(runtimeConfig.rocksdb);
+        }
+
         this.executorService = Executors.newSingleThreadExecutor();
 
-        this.kafkaStreams = initializeKafkaStreams(kafkaStreamsProperties, runtimeConfig, kafkaAdminClient, topology.get(),
-                kafkaClientSupplier, stateListener, globalStateRestoreListener, uncaughtExceptionHandlerListener,
-                executorService);
+        this.kafkaStreams = createKafkaStreams(kafkaStreamsProperties, topology.get(), kafkaClientSupplier);
+        this.kafkaStreamsInteractiveQueries = new KafkaStreamsInteractiveQueries(kafkaStreams,
+                runtimeConfig.applicationServer);
+        initializeKafkaStreams(kafkaStreams, runtimeConfig, kafkaAdminClient, kafkaStreamsInteractiveQueries,
+                stateListener, globalStateRestoreListener, uncaughtExceptionHandlerListener, executorService);
         this.kafkaStreamsTopologyManager = new KafkaStreamsTopologyManager(kafkaAdminClient);
     }
 
@@ -113,6 +126,10 @@ public class KafkaStreamsProducer {
     public void postConstruct() {
         if (kafkaStreams != null) {
             Arc.container().beanManager().getEvent().select(KafkaStreams.class).fire(kafkaStreams);
+            Cache sharedBlockCache = QuarkusRocksDBConfigSetter.getSharedBlockCache();
+            if (sharedBlockCache != null) {
+                Arc.container().beanManager().getEvent().select(Cache.class).fire(sharedBlockCache);
+            }
         }
     }
 
@@ -132,6 +149,13 @@ public class KafkaStreamsProducer {
         return kafkaStreamsTopologyManager;
     }
 
+    @Produces
+    @Singleton
+    @Unremovable
+    public KafkaStreamsInteractiveQueries kafkaStreamsInteractiveQueries() {
+        return kafkaStreamsInteractiveQueries;
+    }
+
     void onStop(@Observes ShutdownEvent event) {
         shutdown = true;
         if (executorService != null) {
@@ -141,25 +165,34 @@ public class KafkaStreamsProducer {
             LOGGER.debug("Stopping Kafka Streams pipeline");
             kafkaStreams.close();
         }
+        QuarkusRocksDBConfigSetter.release();
         if (kafkaAdminClient != null) {
             kafkaAdminClient.close(Duration.ZERO);
         }
     }
 
-    private static KafkaStreams initializeKafkaStreams(Properties kafkaStreamsProperties,
-            KafkaStreamsRuntimeConfig runtimeConfig, Admin adminClient, Topology topology,
-            Instance<KafkaClientSupplier> kafkaClientSupplier,
-            Instance<StateListener> stateListener, Instance<StateRestoreListener> globalStateRestoreListener,
-            Instance<StreamsUncaughtExceptionHandler> uncaughtExceptionHandlerListener, ExecutorService executorService) {
-        KafkaStreams kafkaStreams;
+    private static KafkaStreams createKafkaStreams(Properties kafkaStreamsProperties, Topology topology,
+            Instance<KafkaClientSupplier> kafkaClientSupplier) {
         if (kafkaClientSupplier.isUnsatisfied()) {
-            kafkaStreams = new KafkaStreams(topology, kafkaStreamsProperties);
+            return new KafkaStreams(topology, kafkaStreamsProperties);
         } else {
-            kafkaStreams = new KafkaStreams(topology, kafkaStreamsProperties, kafkaClientSupplier.get());
+            return new KafkaStreams(topology, kafkaStreamsProperties, kafkaClientSupplier.get());
         }
+    }
 
-        if (!stateListener.isUnsatisfied()) {
-            kafkaStreams.setStateListener(stateListener.get());
+    private static void initializeKafkaStreams(KafkaStreams kafkaStreams, KafkaStreamsRuntimeConfig runtimeConfig,
+            Admin adminClient, KafkaStreamsInteractiveQueries interactiveQueries,
+            Instance<StateListener> stateListener, Instance<StateRestoreListener> globalStateRestoreListener,
+            Instance<StreamsUncaughtExceptionHandler> uncaughtExceptionHandlerListener, ExecutorService executorService) {
+        if (stateListener.isUnsatisfied()) {
+            kafkaStreams.setStateListener(interactiveQueries);
+        } else {
+            // Kafka Streams only accepts a single listener, the cached store handles must be invalidated as well
+            StateListener applicationListener = stateListener.get();
+            kafkaStreams.setStateListener((newState, oldState) -> {
+                interactiveQueries.onChange(newState, oldState);
+                applicationListener.onChange(newState, oldState);
+            });
         }
         if (!globalStateRestoreListener.isUnsatisfied()) {
             kafkaStreams.setGlobalStateRestoreListener(globalStateRestoreListener.get());
@@ -182,8 +215,6 @@ public class KafkaStreamsProducer {
                 kafkaStreams.start();
             }
         });
-
-        return kafkaStreams;
     }
 
     /**
@@ -218,6 +249,15 @@ public class KafkaStreamsProducer {
             streamsProperties.put(runtimeConfig.schemaRegistryKey, runtimeConfig.schemaRegistryUrl.get());
         }
 
+        // rocksdb
+        RocksDBConfig rocksdb = runtimeConfig.rocksdb;
+        if (rocksdb.enabled && !streamsProperties.containsKey(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG)) {
+            streamsProperties.put(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG, QuarkusRocksDBConfigSetter.class);
+        }
+        if (rocksdb.statistics) {
+            streamsProperties.putIfAbsent(StreamsConfig.METRICS_RECORDING_LEVEL_CONFIG, Sensor.RecordingLevel.DEBUG.name);
+        }
+
         // set the security protocol (in case we are doing PLAIN_TEXT)
         setProperty(runtimeConfig.securityProtocol, streamsProperties, CommonClientConfigs.SECURITY_PROTOCOL_CONFIG);
 
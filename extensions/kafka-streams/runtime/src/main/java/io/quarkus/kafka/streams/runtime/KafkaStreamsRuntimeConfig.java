@@ -88,6 +88,11 @@ public class KafkaStreamsRuntimeConfig {
      */
     public SslConfig ssl;
 
+    /**
+     * RocksDB state store config
+     */
+    public RocksDBConfig rocksdb;
+
     @Override
     public String toString() {
         return "KafkaStreamsRuntimeConfig{" +
@@ -99,6 +104,7 @@ public class KafkaStreamsRuntimeConfig {
                 ", schemaRegistryUrl=" + schemaRegistryUrl +
                 ", sasl=" + sasl +
                 ", ssl=" + ssl +
+                ", rocksdb=" + rocksdb +
                 '}';
     }
 
@@ -0,0 +1,103 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.util.Map;
+
+import org.apache.kafka.streams.state.RocksDBConfigSetter;
+import org.jboss.logging.Logger;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
+import org.rocksdb.LRUCache;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.WriteBufferManager;
+
+/**
+ * A {@link RocksDBConfigSetter} bounding the off-heap memory used by all the RocksDB state stores of the application.
+ * <p>
+ * Kafka Streams instantiates the setter reflectively once per store, so the block cache and the write buffer manager
+ * shared by all the stores are held statically. They are created from {@link RocksDBConfig} before the pipeline is
+ * started, and released once it is closed.
+ */
+public class QuarkusRocksDBConfigSetter implements RocksDBConfigSetter {
+
+    private static final Logger LOGGER = Logger.getLogger(QuarkusRocksDBConfigSetter.class.getName());
+
+    private static volatile SharedMemory sharedMemory;
+
+    private BloomFilter filter;
+
+    static synchronized void initialize(RocksDBConfig config) {
+        release();
+        long blockCacheSize = config.blockCacheSize.asLongValue();
+        long writeBufferSize = config.writeBufferSize.asLongValue();
+        if (writeBufferSize > blockCacheSize) {
+            throw new IllegalArgumentException("quarkus.kafka-streams.rocksdb.write-buffer-size (" + writeBufferSize
+                    + ") must not exceed quarkus.kafka-streams.rocksdb.block-cache-size (" + blockCacheSize + ")");
+        }
+        LOGGER.debugf("Sharing a %d bytes RocksDB block cache across state stores", blockCacheSize);
+        // the shared objects are created before any store, so the native library may not be loaded yet
+        RocksDB.loadLibrary();
+        LRUCache cache = new LRUCache(blockCacheSize, -1, false, config.highPriorityPoolRatio);
+        sharedMemory = new SharedMemory(cache, new WriteBufferManager(writeBufferSize, cache),
+                config.bloomFilterBitsPerKey.isPresent() ? config.bloomFilterBitsPerKey.getAsDouble() : -1);
+    }
+
+    static synchronized void release() {
+        SharedMemory memory = sharedMemory;
+        if (memory != null) {
+            sharedMemory = null;
+            memory.writeBufferManager.close();
+            memory.cache.close();
+        }
+    }
+
+    /**
+     * @return the block cache shared by all state stores, or {@code null} if the setter is not in use
+     */
+    public static Cache getSharedBlockCache() {
+        SharedMemory memory = sharedMemory;
+        return memory != null ? memory.cache : null;
+    }
+
+    @Override
+    public void setConfig(String storeName, Options options, Map<String, Object> configs) {
+        SharedMemory memory = sharedMemory;
+        if (memory == null) {
+            throw new IllegalStateException("The Quarkus RocksDB config setter has not been initialized");
+        }
+        BlockBasedTableConfig tableConfig = (BlockBasedTableConfig) options.tableFormatConfig();
+        tableConfig.setBlockCache(memory.cache);
+        // account index and filter blocks against the shared cache, but keep them from being evicted first
+        tableConfig.setCacheIndexAndFilterBlocks(true);
+        tableConfig.setCacheIndexAndFilterBlocksWithHighPriority(true);
+        tableConfig.setPinTopLevelIndexAndFilter(true);
+        if (memory.bloomFilterBitsPerKey > 0) {
+            filter = new BloomFilter(memory.bloomFilterBitsPerKey);
+            tableConfig.setFilterPolicy(filter);
+        }
+        options.setWriteBufferManager(memory.writeBufferManager);
+        options.setTableFormatConfig(tableConfig);
+    }
+
+    @Override
+    public void close(String storeName, Options options) {
+        // the shared cache and write buffer manager outlive the store, only per-store objects are closed
+        if (filter != null) {
+            filter.close();
+        }
+    }
+
+    private static final class SharedMemory {
+
+        final Cache cache;
+        final WriteBufferManager writeBufferManager;
+        final double bloomFilterBitsPerKey;
+
+        SharedMemory(Cache cache, WriteBufferManager writeBufferManager, double bloomFilterBitsPerKey) {
+            this.cache = cache;
+            this.writeBufferManager = writeBufferManager;
+            this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.util.OptionalDouble;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+@ConfigGroup
+public class RocksDBConfig {
+
+    /**
+     * Whether the Quarkus-managed RocksDB config setter is used for the state stores.
+     * It bounds the off-heap memory of all stores by sharing a single block cache and write buffer manager.
+     * Ignored if {@code rocksdb.config.setter} is set explicitly.
+     */
+    @ConfigItem
+    public boolean enabled;
+
+    /**
+     * The size of the block cache shared by all state stores of the application instance.
+     * Memtables, index and filter blocks are accounted against this cache as well.
+     */
+    @ConfigItem(defaultValue = "64M")
+    public MemorySize blockCacheSize;
+
+    /**
+     * The maximum memory the memtables of all state stores may use, accounted against the block cache.
+     */
+    @ConfigItem(defaultValue = "16M")
+    public MemorySize writeBufferSize;
+
+    /**
+     * The ratio of the block cache reserved for index and filter blocks.
+     */
+    @ConfigItem(defaultValue = "0.1")
+    public double highPriorityPoolRatio;
+
+    /**
+     * The number of bits per key of the bloom filters used for point lookups in the state stores.
+     * If not set, the Kafka Streams default filter is used.
+     */
+    @ConfigItem
+    public OptionalDouble bloomFilterBitsPerKey;
+
+    /**
+     * Whether RocksDB native statistics are recorded and exposed as Kafka Streams metrics.
+     * This sets {@code metrics.recording.level} to {@code DEBUG} unless configured explicitly.
+     */
+    @ConfigItem
+    public boolean statistics;
+}
@@ -0,0 +1,86 @@
+package io.quarkus.kafka.streams.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+
+import java.util.Optional;
+
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.HostInfo;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+public class KafkaStreamsInteractiveQueriesTest {
+
+    @Mock
+    private KafkaStreams streams;
+
+    @Mock
+    private ReadOnlyKeyValueStore<Object, Object> store;
+
+    private KafkaStreamsInteractiveQueries queries;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        queries = new KafkaStreamsInteractiveQueries(streams, Optional.of("localhost:8080"));
+        Mockito.when(streams.store(any())).thenReturn(store);
+    }
+
+    @Test
+    public void shouldCacheStoreUntilRebalance() {
+        Mockito.when(streams.state()).thenReturn(KafkaStreams.State.RUNNING);
+        Mockito.when(store.get("key")).thenReturn("value");
+
+        assertThat(queries.get("store", "key")).contains("value");
+        assertThat(queries.get("store", "key")).contains("value");
+        Mockito.verify(streams, Mockito.times(1)).store(any());
+
+        queries.onChange(KafkaStreams.State.REBALANCING, KafkaStreams.State.RUNNING);
+        assertThat(queries.get("store", "key")).contains("value");
+        Mockito.verify(streams, Mockito.times(2)).store(any());
+    }
+
+    @Test
+    public void shouldNotCacheStoreLookedUpDuringRebalance() {
+        Mockito.when(streams.state()).thenReturn(KafkaStreams.State.RUNNING);
+        Mockito.when(streams.store(any())).thenAnswer(invocation -> {
+            queries.onChange(KafkaStreams.State.REBALANCING, KafkaStreams.State.RUNNING);
+            return store;
+        });
+
+        assertThat(queries.keyValueStore("store")).isEmpty();
+        assertThat(queries.keyValueStore("store")).isEmpty();
+        Mockito.verify(streams, Mockito.times(2)).store(any());
+    }
+
+    @Test
+    public void shouldEvictMigratedStore() {
+        Mockito.when(streams.state()).thenReturn(KafkaStreams.State.RUNNING);
+        Mockito.when(store.all()).thenThrow(new InvalidStateStoreException("migrated"));
+        Mockito.when(store.range("a", "z")).thenThrow(new InvalidStateStoreException("migrated"));
+
+        assertThat(queries.all("store")).isEmpty();
+        assertThat(queries.range("store", "a", "z")).isEmpty();
+        Mockito.verify(streams, Mockito.times(2)).store(any());
+    }
+
+    @Test
+    public void shouldNotQueryStoreIfNotRunning() {
+        Mockito.when(streams.state()).thenReturn(KafkaStreams.State.REBALANCING);
+
+        assertThat(queries.keyValueStore("store")).isEmpty();
+        Mockito.verify(streams, Mockito.never()).store(any());
+    }
+
+    @Test
+    public void shouldDetectLocalHost() {
+        assertThat(queries.isLocal(new HostInfo("localhost", 8080))).isTrue();
+        assertThat(queries.isLocal(new HostInfo("other", 8080))).isFalse();
+    }
+}
@@ -4,7 +4,10 @@ import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.LogConsoleFormatBuildItem;
+import io.quarkus.deployment.builditem.LogHandlerBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.logging.json.runtime.JsonConfig;
+import io.quarkus.logging.json.runtime.JsonFileConfig;
 import io.quarkus.logging.json.runtime.LoggingJsonRecorder;
 
 public final class LoggingJsonSteps {
@@ -14,4 +17,11 @@ public final class LoggingJsonSteps {
     public LogConsoleFormatBuildItem setUpFormatter(LoggingJsonRecorder recorder, JsonConfig config) {
         return new LogConsoleFormatBuildItem(recorder.initializeJsonLogging(config));
     }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public LogHandlerBuildItem setUpFileHandler(LoggingJsonRecorder recorder, JsonFileConfig config,
+            ShutdownContextBuildItem shutdownContext) {
+        return new LogHandlerBuildItem(recorder.initializeJsonFileHandler(config, shutdownContext));
+    }
 }
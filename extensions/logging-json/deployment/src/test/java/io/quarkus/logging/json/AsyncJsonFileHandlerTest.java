@@ -0,0 +1,82 @@
+package io.quarkus.logging.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.bootstrap.logging.InitialConfigurator;
+import io.quarkus.logging.json.runtime.AsyncJsonFileHandler;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class AsyncJsonFileHandlerTest {
+
+    private static final Path LOG_FILE = Paths.get("target", "json-file-handler.log");
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setBeforeAllCustomizer(() -> {
+                try {
+                    Files.deleteIfExists(LOG_FILE);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            })
+            .withConfigurationResource("application-json-file-handler.properties");
+
+    @Test
+    public void recordsAreWrittenAsJsonLines() throws Exception {
+        AsyncJsonFileHandler handler = getHandler();
+        Logger logger = Logger.getLogger(AsyncJsonFileHandlerTest.class);
+        logger.info("Not written, below the handler level");
+        for (int i = 0; i < 100; i++) {
+            logger.warnf("Hello \"%s\" \u00e9\u20ac\ud83d\ude00 %d", "World", i);
+        }
+        logger.error("Failure", new IllegalStateException("boom"));
+        handler.flush();
+
+        List<String> lines = Files.readAllLines(LOG_FILE, StandardCharsets.UTF_8);
+        ObjectMapper mapper = new ObjectMapper();
+        int warnings = 0;
+        JsonNode error = null;
+        for (String line : lines) {
+            JsonNode node = mapper.readTree(line);
+            if (!AsyncJsonFileHandlerTest.class.getName().equals(node.get("loggerName").asText())) {
+                continue;
+            }
+            assertThat(node.has("timestamp")).isTrue();
+            assertThat(node.has("sequence")).isFalse();
+            assertThat(node.has("hostName")).isFalse();
+            assertThat(node.get("foo").asInt()).isEqualTo(42);
+            if (node.get("level").asText().equals("WARN")) {
+                assertThat(node.get("message").asText())
+                        .isEqualTo("Hello \"World\" \u00e9\u20ac\ud83d\ude00 " + warnings);
+                warnings++;
+            } else {
+                error = node;
+            }
+        }
+        assertThat(warnings).isEqualTo(100);
+        assertThat(error).isNotNull();
+        assertThat(error.get("message").asText()).isEqualTo("Failure");
+        assertThat(error.get("stackTrace").asText()).contains("java.lang.IllegalStateException: boom");
+        assertThat(handler.getDroppedRecords()).isZero();
+    }
+
+    static AsyncJsonFileHandler getHandler() {
+        return (AsyncJsonFileHandler) Arrays.stream(InitialConfigurator.DELAYED_HANDLER.getHandlers())
+                .filter(h -> (h instanceof AsyncJsonFileHandler))
+                .findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,233 @@
+package io.quarkus.logging.json.runtime;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.ErrorManager;
+import java.util.logging.Level;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+
+/**
+ * A log handler writing records as JSON lines to a file, without blocking the logging threads on file I/O.
+ * <p>
+ * Records are encoded by the logging thread into a thread local buffer, then copied into a bounded lock-free
+ * {@link JsonRecordRing}. A single writer thread drains the ring, batching the records into a direct buffer which is
+ * written to the file channel in one call. When the ring is full the record is dropped rather than blocking the
+ * logging thread; the writer then reports the number of dropped records in the file itself.
+ */
+public class AsyncJsonFileHandler extends ExtHandler {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FLUSH_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final JsonRecordRing ring;
+    private final ThreadLocal<JsonRecordEncoder> encoders;
+    private final JsonRecordEncoder writerEncoder;
+    private final FileChannel channel;
+    private final ByteBuffer batch;
+    private final LongAdder droppedRecords = new LongAdder();
+    private final Thread writer;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // signalled by the writer when records have been written, while threads wait in flush()
+    private final Condition recordsWritten = flushLock.newCondition();
+
+    private volatile long writtenRecords;
+    private volatile int flushWaiters;
+    private volatile boolean writerParked;
+    private volatile boolean closed;
+    private long reportedDroppedRecords;
+
+    public AsyncJsonFileHandler(Path path, int queueLength, int batchSize, Set<String> excludedKeys,
+            Map<String, AdditionalFieldConfig> additionalFields) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        this.ring = new JsonRecordRing(queueLength);
+        this.encoders = ThreadLocal.withInitial(() -> new JsonRecordEncoder(excludedKeys, additionalFields));
+        this.writerEncoder = new JsonRecordEncoder(excludedKeys, additionalFields);
+        this.batch = ByteBuffer.allocateDirect(batchSize);
+        this.writer = new Thread(this::writeRecords, "quarkus-json-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * @return the number of records dropped because the queue was full, or the handler was closed
+     */
+    public long getDroppedRecords() {
+        return droppedRecords.sum();
+    }
+
+    @Override
+    protected void doPublish(ExtLogRecord record) {
+        if (closed) {
+            droppedRecords.increment();
+            return;
+        }
+        JsonRecordEncoder encoder = encoders.get();
+        int length;
+        try {
+            length = encoder.encode(record);
+        } catch (Exception e) {
+            reportError("Unable to encode the log record", e, ErrorManager.FORMAT_FAILURE);
+            return;
+        }
+        if (!ring.offer(encoder.buffer(), length)) {
+            droppedRecords.increment();
+            return;
+        }
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Waits for the records published so far to be written to the file.
+     */
+    @Override
+    public void flush() {
+        long published = ring.producedCount();
+        if (writtenRecords >= published) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            flushWaiters++;
+            LockSupport.unpark(writer);
+            long remaining = FLUSH_TIMEOUT_NANOS;
+            while (writtenRecords < published && writer.isAlive() && remaining > 0) {
+                remaining = recordsWritten.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            flushWaiters--;
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.NANOSECONDS.toMillis(FLUSH_TIMEOUT_NANOS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            reportError("Unable to close the JSON log file", e, ErrorManager.CLOSE_FAILURE);
+        }
+        super.close();
+    }
+
+    private void writeRecords() {
+        try {
+            for (;;) {
+                // read the flag first, so the records published before closing are all written
+                boolean closing = closed;
+                if (!writeBatch()) {
+                    if (closing) {
+                        return;
+                    }
+                    writerParked = true;
+                    if (ring.peek() < 0 && !closed) {
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    }
+                    writerParked = false;
+                }
+            }
+        } finally {
+            signalFlushWaiters();
+        }
+    }
+
+    private void signalFlushWaiters() {
+        // waiters register before checking writtenRecords, which is updated before this check
+        if (flushWaiters > 0) {
+            flushLock.lock();
+            try {
+                recordsWritten.signalAll();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * @return {@code false} if there was nothing to write
+     */
+    private boolean writeBatch() {
+        boolean written = false;
+        long dropped = droppedRecords.sum();
+        if (dropped > reportedDroppedRecords) {
+            ExtLogRecord record = new ExtLogRecord(Level.WARNING,
+                    "Dropped " + (dropped - reportedDroppedRecords) + " log records, the JSON log file queue was full",
+                    AsyncJsonFileHandler.class.getName());
+            record.setLoggerName(AsyncJsonFileHandler.class.getName());
+            int length = writerEncoder.encode(record);
+            append(writerEncoder.buffer(), length);
+            reportedDroppedRecords = dropped;
+            written = true;
+        }
+        int length;
+        while ((length = ring.peek()) >= 0) {
+            append(ring.peekedRecord(), length);
+            ring.release();
+            written = true;
+        }
+        writeFully(batch);
+        return written;
+    }
+
+    private void append(byte[] record, int length) {
+        if (batch.remaining() < length) {
+            writeFully(batch);
+            if (batch.capacity() < length) {
+                writeFully(ByteBuffer.wrap(record, 0, length));
+                return;
+            }
+        }
+        batch.put(record, 0, length);
+    }
+
+    private void writeFully(ByteBuffer buffer) {
+        if (buffer == batch) {
+            batch.flip();
+        }
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            reportError("Unable to write to the JSON log file", e, ErrorManager.WRITE_FAILURE);
+        } finally {
+            if (buffer == batch) {
+                batch.clear();
+                // the records released so far have all been appended to the batch
+                writtenRecords = ring.consumedCount();
+                signalFlushWaiters();
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.quarkus.logging.json.runtime;
+
+import java.io.File;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * Configuration for the asynchronous JSON file log handler.
+ */
+@ConfigRoot(phase = ConfigPhase.RUN_TIME, name = "log.json-file")
+public class JsonFileConfig {
+    /**
+     * Determine whether to enable the asynchronous JSON file handler.
+     * <p>
+     * Records are encoded on the logging thread and written to the file by a single background writer, so logging
+     * never blocks on file I/O. When the writer cannot keep up and the queue is full, records are dropped and the
+     * number of dropped records is written to the file once the writer catches up.
+     */
+    @ConfigItem(name = ConfigItem.PARENT)
+    boolean enable;
+    /**
+     * The name of the file in which the JSON records will be written.
+     */
+    @ConfigItem(defaultValue = "quarkus.json.log")
+    File path;
+    /**
+     * The level of logs to be written into the file.
+     */
+    @ConfigItem(defaultValue = "ALL")
+    Level level;
+    /**
+     * The number of records that can be queued before records are dropped. Rounded up to a power of two.
+     */
+    @ConfigItem(defaultValue = "8192")
+    int queueLength;
+    /**
+     * The size of the buffer used by the writer to batch records into a single file write.
+     */
+    @ConfigItem(defaultValue = "64K")
+    MemorySize batchSize;
+    /**
+     * Keys to be excluded from the Json output.
+     */
+    @ConfigItem
+    Optional<Set<String>> excludedKeys;
+    /**
+     * Additional fields to be appended in the json logs.
+     */
+    @ConfigItem
+    @ConfigDocMapKey("field-name")
+    Map<String, AdditionalFieldConfig> additionalField;
+}
@@ -0,0 +1,330 @@
+package io.quarkus.logging.json.runtime;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.LogRecord;
+
+import org.jboss.logmanager.ExtFormatter;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.formatters.StructuredFormatter.Key;
+
+/**
+ * Encodes log records as single line JSON objects, directly as UTF-8 into a reusable byte array.
+ * <p>
+ * An encoder is not thread-safe, each logging thread uses its own instance. The output only depends on the record,
+ * so unlike {@link JsonFormatter} no intermediate {@code String} is built for the whole record.
+ */
+final class JsonRecordEncoder {
+
+    private static final int INITIAL_CAPACITY = 512;
+    /**
+     * The buffer is shrunk back after encoding records larger than this, typically ones with a stack trace.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+    private static final DateTimeFormatter SECONDS_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss");
+    private static final DateTimeFormatter OFFSET_FORMATTER = DateTimeFormatter.ofPattern("xxx");
+
+    // formats the message as the structured formatters do, according to the format style of the record
+    private static final ExtFormatter MESSAGE_FORMATTER = new ExtFormatter() {
+        @Override
+        public String format(ExtLogRecord record) {
+            return formatMessage(record);
+        }
+    };
+    // LogRecord.getLongThreadID() is only available on Java 16+, getThreadID() truncates the thread id there
+    private static final MethodHandle LONG_THREAD_ID = longThreadId();
+
+    private final boolean[] included;
+    private final byte[] additionalFields;
+    private final ZoneId zoneId;
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int length;
+
+    // the timestamp is only formatted once per second, the milliseconds are appended to the cached parts
+    private long cachedSecond = Long.MIN_VALUE;
+    private byte[] cachedSecondBytes;
+    private byte[] cachedOffsetBytes;
+
+    JsonRecordEncoder(Set<String> excludedKeys, Map<String, AdditionalFieldConfig> additionalFields) {
+        this(excludedKeys, additionalFields, ZoneId.systemDefault());
+    }
+
+    JsonRecordEncoder(Set<String> excludedKeys, Map<String, AdditionalFieldConfig> additionalFields, ZoneId zoneId) {
+        this.included = new boolean[Key.values().length];
+        for (Key key : Key.values()) {
+            included[key.ordinal()] = !excludedKeys.contains(key.getKey());
+        }
+        this.zoneId = zoneId;
+        this.additionalFields = encodeAdditionalFields(additionalFields);
+    }
+
+    /**
+     * Encodes the record, followed by a new line.
+     *
+     * @return the number of bytes of {@link #buffer()} holding the encoded record
+     */
+    int encode(ExtLogRecord record) {
+        if (buffer.length > MAX_RETAINED_CAPACITY) {
+            buffer = new byte[INITIAL_CAPACITY];
+        }
+        length = 0;
+        writeByte('{');
+        boolean first = true;
+        if (included[Key.TIMESTAMP.ordinal()]) {
+            writeKey(Key.TIMESTAMP, true);
+            writeTimestamp(record.getMillis());
+            first = false;
+        }
+        first = writeField(Key.SEQUENCE, record.getSequenceNumber(), first);
+        first = writeField(Key.LOGGER_CLASS_NAME, record.getLoggerClassName(), first);
+        first = writeField(Key.LOGGER_NAME, record.getLoggerName(), first);
+        first = writeField(Key.LEVEL, record.getLevel().getName(), first);
+        first = writeField(Key.MESSAGE, MESSAGE_FORMATTER.formatMessage(record), first);
+        first = writeField(Key.THREAD_NAME, record.getThreadName(), first);
+        first = writeField(Key.THREAD_ID, threadId(record), first);
+        if (included[Key.MDC.ordinal()]) {
+            writeKey(Key.MDC, first);
+            writeByte('{');
+            boolean firstEntry = true;
+            for (Map.Entry<String, String> entry : record.getMdcCopy().entrySet()) {
+                if (!firstEntry) {
+                    writeByte(',');
+                }
+                writeString(entry.getKey());
+                writeByte(':');
+                writeString(entry.getValue());
+                firstEntry = false;
+            }
+            writeByte('}');
+            first = false;
+        }
+        String ndc = record.getNdc();
+        if (ndc != null && !ndc.isEmpty()) {
+            first = writeField(Key.NDC, ndc, first);
+        }
+        first = writeField(Key.HOST_NAME, record.getHostName(), first);
+        first = writeField(Key.PROCESS_NAME, record.getProcessName(), first);
+        first = writeField(Key.PROCESS_ID, record.getProcessId(), first);
+        Throwable thrown = record.getThrown();
+        if (thrown != null) {
+            StringWriter stackTrace = new StringWriter();
+            thrown.printStackTrace(new PrintWriter(stackTrace));
+            first = writeField(Key.STACK_TRACE, stackTrace.toString(), first);
+        }
+        if (additionalFields.length > 0) {
+            if (first) {
+                // skip the separator the additional fields are encoded with
+                writeBytes(additionalFields, 1, additionalFields.length - 1);
+            } else {
+                writeBytes(additionalFields, 0, additionalFields.length);
+            }
+        }
+        writeByte('}');
+        writeByte('\n');
+        return length;
+    }
+
+    byte[] buffer() {
+        return buffer;
+    }
+
+    private byte[] encodeAdditionalFields(Map<String, AdditionalFieldConfig> additionalFields) {
+        length = 0;
+        for (Map.Entry<String, AdditionalFieldConfig> entry : additionalFields.entrySet()) {
+            writeByte(',');
+            writeString(entry.getKey());
+            writeByte(':');
+            switch (entry.getValue().type) {
+                case STRING:
+                    writeString(entry.getValue().value);
+                    break;
+                case INT:
+                    writeLong(Integer.parseInt(entry.getValue().value));
+                    break;
+                case LONG:
+                    writeLong(Long.parseLong(entry.getValue().value));
+                    break;
+            }
+        }
+        byte[] encoded = Arrays.copyOf(buffer, length);
+        length = 0;
+        return encoded;
+    }
+
+    private boolean writeField(Key key, String value, boolean first) {
+        if (value == null || !included[key.ordinal()]) {
+            return first;
+        }
+        writeKey(key, first);
+        writeString(value);
+        return false;
+    }
+
+    private boolean writeField(Key key, long value, boolean first) {
+        if (!included[key.ordinal()]) {
+            return first;
+        }
+        writeKey(key, first);
+        writeLong(value);
+        return false;
+    }
+
+    private void writeKey(Key key, boolean first) {
+        if (!first) {
+            writeByte(',');
+        }
+        writeString(key.getKey());
+        writeByte(':');
+    }
+
+    private void writeTimestamp(long millis) {
+        long second = Math.floorDiv(millis, 1000);
+        if (second != cachedSecond) {
+            ZonedDateTime dateTime = Instant.ofEpochSecond(second).atZone(zoneId);
+            cachedSecondBytes = SECONDS_FORMATTER.format(dateTime).getBytes();
+            cachedOffsetBytes = OFFSET_FORMATTER.format(dateTime).getBytes();
+            cachedSecond = second;
+        }
+        int millisOfSecond = (int) Math.floorMod(millis, 1000);
+        writeByte('"');
+        writeBytes(cachedSecondBytes, 0, cachedSecondBytes.length);
+        writeByte('.');
+        writeByte('0' + millisOfSecond / 100);
+        writeByte('0' + millisOfSecond / 10 % 10);
+        writeByte('0' + millisOfSecond % 10);
+        writeBytes(cachedOffsetBytes, 0, cachedOffsetBytes.length);
+        writeByte('"');
+    }
+
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            byte[] bytes = Long.toString(value).getBytes();
+            writeBytes(bytes, 0, bytes.length);
+            return;
+        }
+        if (value < 0) {
+            writeByte('-');
+            value = -value;
+        }
+        int digits = 1;
+        for (long remaining = value / 10; remaining != 0; remaining /= 10) {
+            digits++;
+        }
+        ensureCapacity(digits);
+        for (int i = length + digits - 1; i >= length; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length += digits;
+    }
+
+    private void writeString(String value) {
+        // worst case is 6 bytes per char (escaped control characters), plus the quotes
+        ensureCapacity(value.length() * 6 + 2);
+        byte[] buf = buffer;
+        int pos = length;
+        buf[pos++] = '"';
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    buf[pos++] = (byte) c;
+                } else {
+                    buf[pos++] = '\\';
+                    switch (c) {
+                        case '"':
+                        case '\\':
+                            buf[pos++] = (byte) c;
+                            break;
+                        case '\n':
+                            buf[pos++] = 'n';
+                            break;
+                        case '\r':
+                            buf[pos++] = 'r';
+                            break;
+                        case '\t':
+                            buf[pos++] = 't';
+                            break;
+                        default:
+                            buf[pos++] = 'u';
+                            buf[pos++] = '0';
+                            buf[pos++] = '0';
+                            buf[pos++] = HEX[c >> 4];
+                            buf[pos++] = HEX[c & 0xF];
+                    }
+                }
+            } else if (c < 0x800) {
+                buf[pos++] = (byte) (0xC0 | c >> 6);
+                buf[pos++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buf[pos++] = (byte) (0xF0 | codePoint >> 18);
+                buf[pos++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                buf[pos++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                buf[pos++] = (byte) (0x80 | codePoint & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate, cannot be represented in UTF-8
+                buf[pos++] = '?';
+            } else {
+                buf[pos++] = (byte) (0xE0 | c >> 12);
+                buf[pos++] = (byte) (0x80 | c >> 6 & 0x3F);
+                buf[pos++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        buf[pos++] = '"';
+        length = pos;
+    }
+
+    private void writeBytes(byte[] bytes, int offset, int count) {
+        ensureCapacity(count);
+        System.arraycopy(bytes, offset, buffer, length, count);
+        length += count;
+    }
+
+    private void writeByte(int b) {
+        ensureCapacity(1);
+        buffer[length++] = (byte) b;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static long threadId(ExtLogRecord record) {
+        if (LONG_THREAD_ID != null) {
+            try {
+                return (long) LONG_THREAD_ID.invokeExact((LogRecord) record);
+            } catch (Throwable e) {
+                // fall back to the int thread id
+            }
+        }
+        return record.getThreadID();
+    }
+
+    private static MethodHandle longThreadId() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(LogRecord.class, "getLongThreadID",
+                    MethodType.methodType(long.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = length + additional;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+    }
+}
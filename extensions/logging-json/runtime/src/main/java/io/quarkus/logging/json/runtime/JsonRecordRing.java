@@ -0,0 +1,122 @@
+package io.quarkus.logging.json.runtime;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded, lock-free, multiple producers single consumer queue of encoded records.
+ * <p>
+ * Each slot owns a byte array which is reused from one record to the next, so records are copied into the ring
+ * instead of being allocated. A slot sequence tells whether the slot is free for the producer claiming the position
+ * ({@code sequence == position}) or holds a record published for the consumer ({@code sequence == position + 1}).
+ */
+final class JsonRecordRing {
+
+    private static final int INITIAL_SLOT_CAPACITY = 512;
+    private static final int MAX_RETAINED_SLOT_CAPACITY = 16 * 1024;
+
+    private final int capacity;
+    private final int mask;
+    private final byte[][] slots;
+    private final int[] lengths;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    JsonRecordRing(int requestedCapacity) {
+        if (requestedCapacity < 2 || requestedCapacity > 1 << 30) {
+            throw new IllegalArgumentException("The queue length must be between 2 and 2^30: " + requestedCapacity);
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new byte[capacity][];
+        this.lengths = new int[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new byte[INITIAL_SLOT_CAPACITY];
+            sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Copies the record into the ring.
+     *
+     * @return {@code false} if the ring is full
+     */
+    boolean offer(byte[] record, int length) {
+        long position = tail.get();
+        for (;;) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    byte[] slot = slots[index];
+                    if (slot.length < length) {
+                        slot = new byte[Math.max(length, slot.length * 2)];
+                        slots[index] = slot;
+                    }
+                    System.arraycopy(record, 0, slot, 0, length);
+                    lengths[index] = length;
+                    // the volatile write publishes the slot content to the consumer
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // the consumer has not released the slot yet, a full lap behind
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Returns the length of the next published record, only called by the consumer.
+     *
+     * @return the length of the record, or {@code -1} if no record is available
+     */
+    int peek() {
+        long position = head;
+        int index = (int) position & mask;
+        return sequences.get(index) == position + 1 ? lengths[index] : -1;
+    }
+
+    /**
+     * Returns the bytes of the record returned by {@link #peek()}, only called by the consumer.
+     */
+    byte[] peekedRecord() {
+        return slots[(int) head & mask];
+    }
+
+    /**
+     * Frees the slot of the record returned by {@link #peek()}, only called by the consumer.
+     */
+    void release() {
+        long position = head;
+        int index = (int) position & mask;
+        if (slots[index].length > MAX_RETAINED_SLOT_CAPACITY) {
+            slots[index] = new byte[INITIAL_SLOT_CAPACITY];
+        }
+        sequences.set(index, position + capacity);
+        head = position + 1;
+    }
+
+    /**
+     * @return the number of records claimed by producers so far
+     */
+    long producedCount() {
+        return tail.get();
+    }
+
+    /**
+     * @return the number of records released by the consumer so far
+     */
+    long consumedCount() {
+        return head;
+    }
+}
@@ -1,9 +1,13 @@
 package io.quarkus.logging.json.runtime;
 
+import java.io.IOException;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.logging.Formatter;
+import java.util.logging.Handler;
 
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -29,4 +33,22 @@ public class LoggingJsonRecorder {
         }
         return new RuntimeValue<>(Optional.of(formatter));
     }
+
+    public RuntimeValue<Optional<Handler>> initializeJsonFileHandler(final JsonFileConfig config,
+            final ShutdownContext shutdownContext) {
+        if (!config.enable) {
+            return new RuntimeValue<>(Optional.empty());
+        }
+        final AsyncJsonFileHandler handler;
+        try {
+            handler = new AsyncJsonFileHandler(config.path.toPath(), config.queueLength,
+                    (int) config.batchSize.asLongValue(), config.excludedKeys.orElse(Collections.emptySet()),
+                    config.additionalField);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to open the JSON log file " + config.path, e);
+        }
+        handler.setLevel(config.level);
+        shutdownContext.addLastShutdownTask(handler::close);
+        return new RuntimeValue<>(Optional.of(handler));
+    }
 }
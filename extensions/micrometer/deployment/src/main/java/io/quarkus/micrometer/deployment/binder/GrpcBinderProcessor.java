@@ -18,6 +18,7 @@ public class GrpcBinderProcessor {
 
     static final String CLIENT_GRPC_METRICS_INTERCEPTOR = "io.quarkus.micrometer.runtime.binder.grpc.GrpcMetricsClientInterceptor";
     static final String SERVER_GRPC_METRICS_INTERCEPTOR = "io.quarkus.micrometer.runtime.binder.grpc.GrpcMetricsServerInterceptor";
+    static final String SERVER_GRPC_METER_FILTER_PROVIDER = "io.quarkus.micrometer.runtime.binder.grpc.GrpcMeterFilterProvider";
 
     static final String CLIENT_INTERCEPTOR = "io.grpc.ClientInterceptor";
     static final String SERVER_INTERCEPTOR = "io.grpc.ServerInterceptor";
@@ -52,4 +53,10 @@ public class GrpcBinderProcessor {
         return AdditionalBeanBuildItem.unremovableOf(SERVER_GRPC_METRICS_INTERCEPTOR);
     }
 
+    @BuildStep(onlyIf = GrpcServerSupportEnabled.class)
+    AdditionalBeanBuildItem addGrpcServerMeterFilter() {
+        // SLO buckets of the processing duration timers
+        return AdditionalBeanBuildItem.unremovableOf(SERVER_GRPC_METER_FILTER_PROVIDER);
+    }
+
 }
@@ -74,7 +74,7 @@ public class HttpBinderProcessor {
         boolean serverEnabled = buildTimeConfig.checkBinderEnabledWithDefault(buildTimeConfig.binder.httpServer);
 
         if (clientEnabled || serverEnabled) {
-            // Protect from uri tag flood
+            // Protect from uri tag flood, configure SLO buckets
             createAdditionalBean(additionalBeans, HTTP_METER_FILTER_CONFIGURATION);
         }
 
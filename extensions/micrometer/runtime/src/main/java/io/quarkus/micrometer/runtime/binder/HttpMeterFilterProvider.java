@@ -57,6 +57,26 @@ public class HttpMeterFilterProvider {
         return null;
     }
 
+    @Singleton
+    @Produces
+    public MeterFilter metricsHttpClientSloBucketsFilter(HttpClientConfig httpClientConfig) {
+        if (binderConfiguration.isClientEnabled() && httpClientConfig.sloBuckets.isPresent()) {
+            return new SloBucketsMeterFilter(binderConfiguration.getHttpClientRequestsName(),
+                    httpClientConfig.sloBuckets.get());
+        }
+        return null;
+    }
+
+    @Singleton
+    @Produces
+    public MeterFilter metricsHttpServerSloBucketsFilter(HttpServerConfig httpServerConfig) {
+        if (binderConfiguration.isServerEnabled() && httpServerConfig.sloBuckets.isPresent()) {
+            return new SloBucketsMeterFilter(binderConfiguration.getHttpServerRequestsName(),
+                    httpServerConfig.sloBuckets.get());
+        }
+        return null;
+    }
+
     MeterFilter maximumAllowableUriTagsFilter(final String metricName, final int maximumTagValues) {
         MeterFilter denyFilter = new OnlyOnceLoggingDenyMeterFilter(() -> String
                 .format("Reached the maximum number (%s) of URI tags for '%s'. Are you using path parameters?",
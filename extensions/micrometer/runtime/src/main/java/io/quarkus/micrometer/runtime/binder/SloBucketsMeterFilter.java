@@ -0,0 +1,43 @@
+package io.quarkus.micrometer.runtime.binder;
+
+import java.time.Duration;
+import java.util.List;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+
+/**
+ * Tracks the latency distribution of a timer with a fixed set of service level objective buckets only.
+ * <p>
+ * Client-side percentiles and percentile histograms are disabled for the matching timer. Recording then boils down to
+ * incrementing the counter of a single bucket, and only a handful of bucket series are published, while percentiles
+ * can still be estimated from the buckets at query time.
+ */
+public class SloBucketsMeterFilter implements MeterFilter {
+
+    private final String metricName;
+    private final double[] serviceLevelObjectives;
+
+    public SloBucketsMeterFilter(String metricName, List<Duration> buckets) {
+        this.metricName = metricName;
+        this.serviceLevelObjectives = buckets.stream()
+                .mapToDouble(Duration::toNanos)
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    @Override
+    public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+        if (id.getType() == Meter.Type.TIMER && metricName.equals(id.getName())) {
+            return DistributionStatisticConfig.builder()
+                    .percentilesHistogram(false)
+                    .percentiles()
+                    .serviceLevelObjectives(serviceLevelObjectives)
+                    .build()
+                    .merge(config);
+        }
+        return config;
+    }
+}
@@ -0,0 +1,23 @@
+package io.quarkus.micrometer.runtime.binder.grpc;
+
+import javax.enterprise.inject.Produces;
+import javax.inject.Singleton;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.quarkus.micrometer.runtime.binder.SloBucketsMeterFilter;
+import io.quarkus.micrometer.runtime.config.runtime.GrpcServerConfig;
+
+@Singleton
+public class GrpcMeterFilterProvider {
+
+    static final String SERVER_PROCESSING_DURATION = "grpc.server.processing.duration";
+
+    @Singleton
+    @Produces
+    public MeterFilter metricsGrpcServerSloBucketsFilter(GrpcServerConfig grpcServerConfig) {
+        if (grpcServerConfig.sloBuckets.isPresent()) {
+            return new SloBucketsMeterFilter(SERVER_PROCESSING_DURATION, grpcServerConfig.sloBuckets.get());
+        }
+        return null;
+    }
+}
@@ -1,13 +1,20 @@
 package io.quarkus.micrometer.runtime.binder.kafka;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Observes;
 
 import org.apache.kafka.streams.KafkaStreams;
 import org.jboss.logging.Logger;
+import org.rocksdb.Cache;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.BaseUnits;
 import io.micrometer.core.instrument.binder.kafka.KafkaStreamsMetrics;
 import io.quarkus.runtime.ShutdownEvent;
 
@@ -23,6 +30,7 @@ public class KafkaStreamsEventObserver {
 
     final MeterRegistry registry = Metrics.globalRegistry;
     KafkaStreamsMetrics kafkaStreamsMetrics;
+    List<Meter> rocksDBMeters = new ArrayList<>();
 
     /**
      * Manage bind/close of KafkaStreamsMetrics for the specified KafkaStreams client.
@@ -46,8 +54,36 @@ public class KafkaStreamsEventObserver {
         }
     }
 
-    void onStop(@Observes ShutdownEvent event) {
+    /**
+     * Register gauges for the RocksDB block cache shared by all state stores, when the Kafka Streams
+     * extension bounds the RocksDB memory. Per-store memory usage is exposed by {@link KafkaStreamsMetrics}.
+     *
+     * @param cache Observed shared block cache
+     */
+    public synchronized void rocksDBBlockCacheCreated(@Observes Cache cache) {
+        removeRocksDBMeters();
+        rocksDBMeters.add(Gauge.builder("kafka.stream.rocksdb.shared.block.cache.usage", cache,
+                c -> c.isOwningHandle() ? c.getUsage() : 0)
+                .description("The memory used by the entries of the RocksDB block cache shared by all state stores")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry));
+        rocksDBMeters.add(Gauge.builder("kafka.stream.rocksdb.shared.block.cache.pinned.usage", cache,
+                c -> c.isOwningHandle() ? c.getPinnedUsage() : 0)
+                .description("The memory used by the pinned entries of the RocksDB block cache shared by all state stores")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry));
+    }
+
+    synchronized void onStop(@Observes ShutdownEvent event) {
         tryToClose(kafkaStreamsMetrics);
+        removeRocksDBMeters();
+    }
+
+    void removeRocksDBMeters() {
+        for (Meter meter : rocksDBMeters) {
+            registry.remove(meter);
+        }
+        rocksDBMeters.clear();
     }
 
     void tryToClose(AutoCloseable c) {
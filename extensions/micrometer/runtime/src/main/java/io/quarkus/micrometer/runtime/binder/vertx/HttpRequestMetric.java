@@ -17,6 +17,9 @@ public class HttpRequestMetric extends RequestMetricInfo {
     /** Cache of vert.x resolved paths: /item/:id --> /item/{id} */
     final static ConcurrentHashMap<String, String> vertxWebToUriTemplate = new ConcurrentHashMap<>();
 
+    /** Cache of normalized JAX-RS templates: item/{id}/ --> /item/{id} */
+    final static ConcurrentHashMap<String, String> normalizedUriTemplates = new ConcurrentHashMap<>();
+
     protected HttpServerRequestInternal request;
     protected String initialPath;
     protected String templatePath;
@@ -35,14 +38,31 @@ public class HttpRequestMetric extends RequestMetricInfo {
         if (isCORSPreflightRequest()) {
             return filterIgnored("/cors-preflight", ignorePatterns);
         }
+        if (matchPatterns.isEmpty()) {
+            // A template known from JAX-RS or the Vert.x route spares normalizing the request path
+            String template = getNormalizedTemplatePath();
+            if (template != null) {
+                return filterIgnored(template, ignorePatterns);
+            }
+        }
         return super.getNormalizedUriPath(matchPatterns, ignorePatterns, initialPath);
     }
 
     public String applyTemplateMatching(String path) {
-        // JAX-RS: UrlPathTemplate set in the
+        String template = getNormalizedTemplatePath();
+        return template == null ? path : template;
+    }
+
+    String getNormalizedTemplatePath() {
+        // JAX-RS: UrlPathTemplate set in the request context
         String urlTemplatePath = getUrlTemplatePath();
         if (urlTemplatePath != null) {
-            return normalizePath(urlTemplatePath);
+            String normalized = normalizedUriTemplates.get(urlTemplatePath);
+            if (normalized == null) {
+                normalized = normalizePath(urlTemplatePath);
+                normalizedUriTemplates.putIfAbsent(urlTemplatePath, normalized);
+            }
+            return normalized;
         }
 
         // vertx-web or reactive route: is it templated?
@@ -56,8 +76,7 @@ public class HttpRequestMetric extends RequestMetricInfo {
                 return normalizePath(String.join("/", segments));
             });
         }
-
-        return path;
+        return null;
     }
 
     public HttpServerRequestInternal request() {
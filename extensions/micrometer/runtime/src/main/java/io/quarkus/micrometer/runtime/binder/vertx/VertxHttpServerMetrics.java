@@ -1,6 +1,8 @@
 package io.quarkus.micrometer.runtime.binder.vertx;
 
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.logging.Logger;
 
@@ -30,12 +32,21 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
     static final Logger log = Logger.getLogger(VertxHttpServerMetrics.class);
     static final String METRICS_CONTEXT = "HTTP_REQUEST_METRICS_CONTEXT";
 
+    /**
+     * Bounds the number of cached request timers, should the uri tag values be unbounded.
+     * Timers are looked up from the registry once the cache is full.
+     */
+    static final int MAX_CACHED_REQUEST_TIMERS = 1024;
+
     HttpBinderConfiguration config;
 
     final String nameWebsocketConnections;
     final String nameHttpServerPush;
     final String nameHttpServerRequests;
 
+    /** Request timers, resolved once per uri, method and status rather than on every response */
+    final Map<RequestTimerKey, Timer> requestTimers = new ConcurrentHashMap<>();
+
     VertxHttpServerMetrics(MeterRegistry registry, HttpBinderConfiguration config) {
         super(registry, "http.server");
         this.config = config;
@@ -44,6 +55,9 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
         nameWebsocketConnections = config.getHttpServerWebSocketConnectionsName();
         nameHttpServerPush = config.getHttpServerPushName();
         nameHttpServerRequests = config.getHttpServerRequestsName();
+
+        // cached timers must not outlive their registration, e.g. when meters are dropped on a dev mode restart
+        registry.config().onMeterRemoved(meter -> requestTimers.clear());
     }
 
     /**
@@ -142,16 +156,26 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
                 config.getServerMatchPatterns(),
                 config.getServerIgnorePatterns());
         if (path != null) {
-            Timer.Sample sample = requestMetric.getSample();
-            Timer.Builder builder = Timer.builder(nameHttpServerRequests)
-                    .tags(Tags.of(
-                            VertxMetricsTags.method(requestMetric.request().method()),
-                            HttpCommonTags.uri(path, response.statusCode()),
-                            VertxMetricsTags.outcome(response),
-                            HttpCommonTags.status(response.statusCode())));
+            requestMetric.getSample().stop(requestTimer(path, requestMetric.request().method(), response.statusCode()));
+        }
+    }
 
-            sample.stop(builder.register(registry));
+    Timer requestTimer(String path, HttpMethod method, int statusCode) {
+        RequestTimerKey key = new RequestTimerKey(path, method, statusCode);
+        Timer timer = requestTimers.get(key);
+        if (timer == null) {
+            timer = Timer.builder(nameHttpServerRequests)
+                    .tags(Tags.of(
+                            VertxMetricsTags.method(method),
+                            HttpCommonTags.uri(path, statusCode),
+                            HttpCommonTags.outcome(statusCode),
+                            HttpCommonTags.status(statusCode)))
+                    .register(registry);
+            if (requestTimers.size() < MAX_CACHED_REQUEST_TIMERS) {
+                requestTimers.putIfAbsent(key, timer);
+            }
         }
+        return timer;
     }
 
     /**
@@ -191,4 +215,35 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
             websocketMetric.stop();
         }
     }
+
+    static final class RequestTimerKey {
+        final String path;
+        final HttpMethod method;
+        final int statusCode;
+        final int hashCode;
+
+        RequestTimerKey(String path, HttpMethod method, int statusCode) {
+            this.path = path;
+            this.method = method;
+            this.statusCode = statusCode;
+            this.hashCode = 31 * (31 * path.hashCode() + Objects.hashCode(method)) + statusCode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RequestTimerKey)) {
+                return false;
+            }
+            RequestTimerKey that = (RequestTimerKey) o;
+            return statusCode == that.statusCode && path.equals(that.path) && Objects.equals(method, that.method);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -0,0 +1,21 @@
+package io.quarkus.micrometer.runtime.config.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "micrometer.binder.grpc-server", phase = ConfigPhase.RUN_TIME)
+public class GrpcServerConfig {
+    /**
+     * Comma-separated list of service level objective buckets for the gRPC server
+     * processing duration timers, e.g. `50ms,100ms,250ms,1s`.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem
+    public Optional<List<Duration>> sloBuckets = Optional.empty();
+}
@@ -1,5 +1,6 @@
 package io.quarkus.micrometer.runtime.config.runtime;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,4 +46,13 @@ public class HttpClientConfig {
      */
     @ConfigItem(defaultValue = "100")
     public int maxUriTags;
+
+    /**
+     * Comma-separated list of service level objective buckets for the HTTP client request timers,
+     * e.g. `50ms,100ms,250ms,1s`.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem
+    public Optional<List<Duration>> sloBuckets = Optional.empty();
 }
@@ -0,0 +1,54 @@
+package io.quarkus.micrometer.runtime.binder;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class SloBucketsMeterFilterTest {
+
+    @Test
+    public void testTimerOnlyTracksSloBuckets() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(new SloBucketsMeterFilter("http.server.requests",
+                Arrays.asList(Duration.ofMillis(250), Duration.ofMillis(50), Duration.ofMillis(50))));
+
+        Timer timer = Timer.builder("http.server.requests")
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+        timer.record(Duration.ofMillis(10));
+        timer.record(Duration.ofMillis(100));
+
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        Assertions.assertEquals(0, snapshot.percentileValues().length);
+        CountAtBucket[] buckets = snapshot.histogramCounts();
+        Assertions.assertEquals(2, buckets.length);
+        Assertions.assertEquals(Duration.ofMillis(50).toNanos(), buckets[0].bucket());
+        Assertions.assertEquals(1, buckets[0].count());
+        Assertions.assertEquals(Duration.ofMillis(250).toNanos(), buckets[1].bucket());
+        Assertions.assertEquals(2, buckets[1].count());
+    }
+
+    @Test
+    public void testOtherTimersAreUnchanged() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(new SloBucketsMeterFilter("http.server.requests",
+                Arrays.asList(Duration.ofMillis(50))));
+
+        Timer timer = Timer.builder("http.client.requests")
+                .publishPercentiles(0.99)
+                .register(registry);
+        timer.record(Duration.ofMillis(10));
+
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        Assertions.assertEquals(1, snapshot.percentileValues().length);
+        Assertions.assertEquals(0, snapshot.histogramCounts().length);
+    }
+}
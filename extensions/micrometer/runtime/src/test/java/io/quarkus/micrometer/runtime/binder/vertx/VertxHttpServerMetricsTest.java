@@ -7,6 +7,13 @@ import org.junit.jupiter.api.condition.DisabledOnJre;
 import org.junit.jupiter.api.condition.JRE;
 import org.mockito.Mockito;
 
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.micrometer.runtime.binder.HttpBinderConfiguration;
+import io.quarkus.micrometer.runtime.config.runtime.HttpClientConfig;
+import io.quarkus.micrometer.runtime.config.runtime.HttpServerConfig;
+import io.quarkus.micrometer.runtime.config.runtime.VertxConfig;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.impl.HttpServerRequestInternal;
 import io.vertx.ext.web.RoutingContext;
 
@@ -60,4 +67,34 @@ public class VertxHttpServerMetricsTest {
         Assertions.assertEquals("/item/{id}", HttpRequestMetric.vertxWebToUriTemplate.get("/item/:id"));
     }
 
+    @Test
+    public void testReturnNormalizedTemplatedPath() {
+        requestMetric.setTemplatePath("item//{id}/");
+
+        Assertions.assertEquals("/item/{id}", requestMetric.applyTemplateMatching("/"));
+        // Make sure normalization is cached
+        Assertions.assertEquals("/item/{id}", HttpRequestMetric.normalizedUriTemplates.get("item//{id}/"));
+    }
+
+    @Test
+    public void testRequestTimersAreCached() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        VertxHttpServerMetrics metrics = new VertxHttpServerMetrics(registry, new HttpBinderConfiguration(
+                true, false, new HttpServerConfig(), new HttpClientConfig(), new VertxConfig()));
+
+        Timer timer = metrics.requestTimer("/item/{id}", HttpMethod.GET, 200);
+        Assertions.assertSame(timer, metrics.requestTimer("/item/{id}", HttpMethod.GET, 200));
+        Assertions.assertNotSame(timer, metrics.requestTimer("/item/{id}", HttpMethod.POST, 200));
+        Assertions.assertNotSame(timer, metrics.requestTimer("/item/{id}", HttpMethod.GET, 500));
+        Assertions.assertEquals("/item/{id}", timer.getId().getTag("uri"));
+        Assertions.assertEquals("SUCCESS", timer.getId().getTag("outcome"));
+
+        // Removed meters are not recorded to anymore
+        registry.remove(timer);
+        Assertions.assertTrue(metrics.requestTimers.isEmpty());
+        Timer registered = metrics.requestTimer("/item/{id}", HttpMethod.GET, 200);
+        Assertions.assertNotSame(timer, registered);
+        Assertions.assertSame(registered, registry.find("http.server.requests").tag("method", "GET")
+                .tag("status", "200").timer());
+    }
 }
@@ -1,6 +1,7 @@
 package io.quarkus.mongodb.impl;
 
 import java.util.List;
+import java.util.function.Function;
 
 import org.bson.Document;
 import org.bson.codecs.configuration.CodecRegistry;
@@ -242,6 +243,45 @@ public class ReactiveMongoCollectionImpl<T> implements ReactiveMongoCollection<T
         return Wrappers.toMulti(apply(options, collection.find(clientSession, filter, clazz)));
     }
 
+    @Override
+    public Multi<List<T>> findBatches(Bson filter, int batchSize) {
+        return findBatches(filter, null, batchSize);
+    }
+
+    @Override
+    public Multi<List<T>> findBatches(Bson filter, FindOptions options, int batchSize) {
+        return batches(apply(options, collection.find(filter)), batchSize);
+    }
+
+    @Override
+    public <D> Multi<List<D>> findBatches(Bson filter, Class<D> clazz, FindOptions options, int batchSize) {
+        return batches(apply(options, collection.find(filter, clazz)), batchSize);
+    }
+
+    @Override
+    public Multi<List<T>> findBatches(ClientSession clientSession, Bson filter, int batchSize) {
+        return findBatches(clientSession, filter, null, batchSize);
+    }
+
+    @Override
+    public Multi<List<T>> findBatches(ClientSession clientSession, Bson filter, FindOptions options, int batchSize) {
+        return batches(apply(options, collection.find(clientSession, filter)), batchSize);
+    }
+
+    @Override
+    public <D> Multi<List<D>> findBatches(ClientSession clientSession, Bson filter, Class<D> clazz, FindOptions options,
+            int batchSize) {
+        return batches(apply(options, collection.find(clientSession, filter, clazz)), batchSize);
+    }
+
+    private static <D> Multi<List<D>> batches(FindPublisher<D> publisher, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive");
+        }
+        // the cursor batch size is only a hint to the server, the lists are grouped on the client side
+        return Wrappers.toMulti(publisher.batchSize(batchSize)).group().intoLists().of(batchSize);
+    }
+
     @Override
     public Multi<T> aggregate(List<? extends Bson> pipeline) {
         return Wrappers.toMulti(collection.aggregate(pipeline));
@@ -459,6 +499,44 @@ public class ReactiveMongoCollectionImpl<T> implements ReactiveMongoCollection<T
         return Wrappers.toUni(collection.bulkWrite(clientSession, requests, options));
     }
 
+    @Override
+    public Multi<BulkWriteResult> bulkWrite(Multi<? extends WriteModel<? extends T>> requests, int batchSize,
+            int maxInFlightBatches) {
+        return bulkWrite(requests, batchSize, maxInFlightBatches, new BulkWriteOptions());
+    }
+
+    @Override
+    public Multi<BulkWriteResult> bulkWrite(Multi<? extends WriteModel<? extends T>> requests, int batchSize,
+            int maxInFlightBatches, BulkWriteOptions options) {
+        return bulkWrite(requests, batchSize, maxInFlightBatches, batch -> bulkWrite(batch, options));
+    }
+
+    @Override
+    public Multi<BulkWriteResult> bulkWrite(ClientSession clientSession,
+            Multi<? extends WriteModel<? extends T>> requests, int batchSize, int maxInFlightBatches) {
+        return bulkWrite(clientSession, requests, batchSize, maxInFlightBatches, new BulkWriteOptions());
+    }
+
+    @Override
+    public Multi<BulkWriteResult> bulkWrite(ClientSession clientSession,
+            Multi<? extends WriteModel<? extends T>> requests, int batchSize, int maxInFlightBatches,
+            BulkWriteOptions options) {
+        return bulkWrite(requests, batchSize, maxInFlightBatches, batch -> bulkWrite(clientSession, batch, options));
+    }
+
+    private static <W> Multi<BulkWriteResult> bulkWrite(Multi<W> requests, int batchSize, int maxInFlightBatches,
+            Function<List<W>, Uni<? extends BulkWriteResult>> writer) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive");
+        }
+        if (maxInFlightBatches <= 0) {
+            throw new IllegalArgumentException("The maximum number of in-flight batches must be positive");
+        }
+        return requests.group().intoLists().of(batchSize)
+                .onItem().transformToUni(writer)
+                .merge(maxInFlightBatches);
+    }
+
     @Override
     public Uni<InsertOneResult> insertOne(T t) {
         return Wrappers.toUni(collection.insertOne(t));
@@ -374,6 +374,84 @@ public interface ReactiveMongoCollection<T> {
      */
     <D> Multi<D> find(ClientSession clientSession, Bson filter, Class<D> clazz, FindOptions options);
 
+    /**
+     * Finds the documents matching the filter, emitting them in batches instead of one at a time.
+     * Each list contains at most {@code batchSize} documents. The batch size is also used as the cursor batch size, which
+     * is only a hint for the number of documents fetched from the server per round trip.
+     *
+     * @param filter the query filter
+     * @param batchSize the maximum number of documents per list, must be positive
+     * @return the stream with the batches of selected documents, can be empty if none matches.
+     */
+    Multi<List<T>> findBatches(Bson filter, int batchSize);
+
+    /**
+     * Finds the documents matching the filter, emitting them in batches instead of one at a time.
+     * Each list contains at most {@code batchSize} documents. The batch size is also used as the cursor batch size, which
+     * is only a hint for the number of documents fetched from the server per round trip.
+     *
+     * @param filter the query filter
+     * @param options the stream options, the batch size set on them is overridden by {@code batchSize}
+     * @param batchSize the maximum number of documents per list, must be positive
+     * @return the stream with the batches of selected documents, can be empty if none matches.
+     */
+    Multi<List<T>> findBatches(Bson filter, FindOptions options, int batchSize);
+
+    /**
+     * Finds the documents matching the filter, emitting them in batches instead of one at a time.
+     * Each list contains at most {@code batchSize} documents. The batch size is also used as the cursor batch size, which
+     * is only a hint for the number of documents fetched from the server per round trip.
+     *
+     * @param filter the query filter
+     * @param clazz the class to decode each document into
+     * @param <D> the target document type of the iterable.
+     * @param options the stream options, the batch size set on them is overridden by {@code batchSize}
+     * @param batchSize the maximum number of documents per list, must be positive
+     * @return the stream with the batches of selected documents, can be empty if none matches.
+     */
+    <D> Multi<List<D>> findBatches(Bson filter, Class<D> clazz, FindOptions options, int batchSize);
+
+    /**
+     * Finds the documents matching the filter, emitting them in batches instead of one at a time.
+     * Each list contains at most {@code batchSize} documents. The batch size is also used as the cursor batch size, which
+     * is only a hint for the number of documents fetched from the server per round trip.
+     *
+     * @param clientSession the client session with which to associate this operation
+     * @param filter the query filter
+     * @param batchSize the maximum number of documents per list, must be positive
+     * @return the stream with the batches of selected documents, can be empty if none matches.
+     */
+    Multi<List<T>> findBatches(ClientSession clientSession, Bson filter, int batchSize);
+
+    /**
+     * Finds the documents matching the filter, emitting them in batches instead of one at a time.
+     * Each list contains at most {@code batchSize} documents. The batch size is also used as the cursor batch size, which
+     * is only a hint for the number of documents fetched from the server per round trip.
+     *
+     * @param clientSession the client session with which to associate this operation
+     * @param filter the query filter
+     * @param options the stream options, the batch size set on them is overridden by {@code batchSize}
+     * @param batchSize the maximum number of documents per list, must be positive
+     * @return the stream with the batches of selected documents, can be empty if none matches.
+     */
+    Multi<List<T>> findBatches(ClientSession clientSession, Bson filter, FindOptions options, int batchSize);
+
+    /**
+     * Finds the documents matching the filter, emitting them in batches instead of one at a time.
+     * Each list contains at most {@code batchSize} documents. The batch size is also used as the cursor batch size, which
+     * is only a hint for the number of documents fetched from the server per round trip.
+     *
+     * @param clientSession the client session with which to associate this operation
+     * @param filter the query filter
+     * @param clazz the class to decode each document into
+     * @param <D> the target document type of the iterable.
+     * @param options the stream options, the batch size set on them is overridden by {@code batchSize}
+     * @param batchSize the maximum number of documents per list, must be positive
+     * @return the stream with the batches of selected documents, can be empty if none matches.
+     */
+    <D> Multi<List<D>> findBatches(ClientSession clientSession, Bson filter, Class<D> clazz, FindOptions options,
+            int batchSize);
+
     /**
      * Aggregates documents according to the specified aggregation pipeline.
      *
@@ -759,6 +837,70 @@ public interface ReactiveMongoCollection<T> {
             List<? extends WriteModel<? extends T>> requests,
             BulkWriteOptions options);
 
+    /**
+     * Executes the writes emitted by the given stream as a sequence of bulk writes of at most {@code batchSize}
+     * requests each. At most {@code maxInFlightBatches} bulk writes are executed concurrently, and the stream is
+     * only requested for more writes once a batch completes, so the memory used is bounded regardless of the rate
+     * of the stream.
+     * <p>
+     * Batches executed concurrently may complete in any order, use {@code maxInFlightBatches = 1} if the writes must
+     * be applied in the order they are emitted.
+     *
+     * @param requests the writes to execute
+     * @param batchSize the maximum number of writes per bulk write, must be positive
+     * @param maxInFlightBatches the maximum number of bulk writes executed concurrently, must be positive
+     * @return a {@link Multi} receiving the {@link BulkWriteResult} of each batch
+     */
+    Multi<BulkWriteResult> bulkWrite(Multi<? extends WriteModel<? extends T>> requests, int batchSize,
+            int maxInFlightBatches);
+
+    /**
+     * Executes the writes emitted by the given stream as a sequence of bulk writes of at most {@code batchSize}
+     * requests each. At most {@code maxInFlightBatches} bulk writes are executed concurrently, and the stream is
+     * only requested for more writes once a batch completes, so the memory used is bounded regardless of the rate
+     * of the stream.
+     * <p>
+     * Batches executed concurrently may complete in any order, use {@code maxInFlightBatches = 1} if the writes must
+     * be applied in the order they are emitted.
+     *
+     * @param requests the writes to execute
+     * @param batchSize the maximum number of writes per bulk write, must be positive
+     * @param maxInFlightBatches the maximum number of bulk writes executed concurrently, must be positive
+     * @param options the options to apply to each bulk write operation
+     * @return a {@link Multi} receiving the {@link BulkWriteResult} of each batch
+     */
+    Multi<BulkWriteResult> bulkWrite(Multi<? extends WriteModel<? extends T>> requests, int batchSize,
+            int maxInFlightBatches, BulkWriteOptions options);
+
+    /**
+     * Executes the writes emitted by the given stream as a sequence of bulk writes of at most {@code batchSize}
+     * requests each, associated with the given session. See
+     * {@link #bulkWrite(Multi, int, int)} for the batching and ordering guarantees.
+     *
+     * @param clientSession the client session with which to associate this operation
+     * @param requests the writes to execute
+     * @param batchSize the maximum number of writes per bulk write, must be positive
+     * @param maxInFlightBatches the maximum number of bulk writes executed concurrently, must be positive
+     * @return a {@link Multi} receiving the {@link BulkWriteResult} of each batch
+     */
+    Multi<BulkWriteResult> bulkWrite(ClientSession clientSession, Multi<? extends WriteModel<? extends T>> requests,
+            int batchSize, int maxInFlightBatches);
+
+    /**
+     * Executes the writes emitted by the given stream as a sequence of bulk writes of at most {@code batchSize}
+     * requests each, associated with the given session. See
+     * {@link #bulkWrite(Multi, int, int)} for the batching and ordering guarantees.
+     *
+     * @param clientSession the client session with which to associate this operation
+     * @param requests the writes to execute
+     * @param batchSize the maximum number of writes per bulk write, must be positive
+     * @param maxInFlightBatches the maximum number of bulk writes executed concurrently, must be positive
+     * @param options the options to apply to each bulk write operation
+     * @return a {@link Multi} receiving the {@link BulkWriteResult} of each batch
+     */
+    Multi<BulkWriteResult> bulkWrite(ClientSession clientSession, Multi<? extends WriteModel<? extends T>> requests,
+            int batchSize, int maxInFlightBatches, BulkWriteOptions options);
+
     /**
      * Inserts the provided document. If the document is missing an identifier, the driver should generate one.
      *
@@ -16,11 +16,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import com.mongodb.MongoWriteException;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.InsertOneModel;
 import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.reactivestreams.client.MongoClients;
 
 import io.quarkus.mongodb.FindOptions;
 import io.quarkus.mongodb.impl.ReactiveMongoClientImpl;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 class ReactiveMongoClientTest extends MongoTestBase {
@@ -196,6 +199,58 @@ class ReactiveMongoClientTest extends MongoTestBase {
         assertThat(documents.get(3000 - 1).getString("foo")).isEqualTo("bar999");
     }
 
+    @Test
+    void testFindBatches() {
+        String collectionName = randomCollection();
+        ReactiveMongoCollection<Document> myCollection = client.getDatabase(DATABASE).getCollection(collectionName);
+
+        List<Document> toBeInserted = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            toBeInserted.add(createDoc(i));
+        }
+        List<List<Document>> batches = myCollection.insertMany(toBeInserted)
+                .onItem().transformToMulti(x -> myCollection.findBatches(eq("num", 123), 1000))
+                .collect().asList()
+                .await().indefinitely();
+
+        assertThat(batches).hasSize(3);
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSize(1000));
+    }
+
+    @Test
+    void testBulkWriteFromStream() {
+        String collectionName = randomCollection();
+        ReactiveMongoCollection<Document> myCollection = client.getDatabase(DATABASE).getCollection(collectionName);
+
+        Multi<InsertOneModel<Document>> inserts = Multi.createFrom().range(0, 2500)
+                .map(i -> new InsertOneModel<>(createDoc(i)));
+        List<BulkWriteResult> results = myCollection.bulkWrite(inserts, 1000, 2)
+                .collect().asList()
+                .await().indefinitely();
+
+        assertThat(results).hasSize(3);
+        assertThat(results.stream().mapToInt(BulkWriteResult::getInsertedCount).sum()).isEqualTo(2500);
+        assertThat(myCollection.countDocuments().await().indefinitely()).isEqualTo(2500L);
+    }
+
+    @Test
+    void testBulkWriteAndFindBatchesWithSession() {
+        String collectionName = randomCollection();
+        ReactiveMongoCollection<Document> myCollection = client.getDatabase(DATABASE).getCollection(collectionName);
+
+        Multi<InsertOneModel<Document>> inserts = Multi.createFrom().range(0, 2500)
+                .map(i -> new InsertOneModel<>(createDoc(i)));
+        List<List<Document>> batches = client.startSession()
+                .onItem().transformToMulti(session -> myCollection.bulkWrite(session, inserts, 1000, 1)
+                        .collect().asList()
+                        .onItem().transformToMulti(x -> myCollection.findBatches(session, eq("num", 123), 1000))
+                        .onTermination().invoke(session::close))
+                .collect().asList()
+                .await().indefinitely();
+
+        assertThat(batches).extracting(List::size).containsExactly(1000, 1000, 500);
+    }
+
     @Test
     void testUpsertCreatesHexIfRecordDoesNotExist() {
         upsertDoc(randomCollection(), createDoc(), null).await().indefinitely();
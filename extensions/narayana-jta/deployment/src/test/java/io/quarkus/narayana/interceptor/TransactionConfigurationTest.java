@@ -0,0 +1,85 @@
+package io.quarkus.narayana.interceptor;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.transaction.SystemException;
+import javax.transaction.TransactionManager;
+import javax.transaction.Transactional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.arjuna.ats.internal.jta.transaction.arjunacore.TransactionImple;
+
+import io.quarkus.narayana.jta.runtime.TransactionConfiguration;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TransactionConfigurationTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(BaseBean.class, ShortTimeoutBean.class, LongTimeoutBean.class))
+            .overrideConfigKey("test.transaction.timeout", "42");
+
+    @Inject
+    ShortTimeoutBean shortTimeoutBean;
+
+    @Inject
+    LongTimeoutBean longTimeoutBean;
+
+    @Test
+    public void testTimeoutResolvedPerTargetClass() throws SystemException {
+        for (int i = 0; i < 2; i++) {
+            // the inherited method is configured by the annotation of the target class
+            Assertions.assertEquals(10, shortTimeoutBean.timeout());
+            Assertions.assertEquals(20, longTimeoutBean.timeout());
+            // the method annotation takes precedence over the class annotation
+            Assertions.assertEquals(42, shortTimeoutBean.timeoutFromProperty());
+            Assertions.assertEquals(42, longTimeoutBean.timeoutFromProperty());
+        }
+    }
+
+    @Test
+    public void testTimeoutCannotBeChangedInCallerTransaction() {
+        Assertions.assertThrows(RuntimeException.class, () -> longTimeoutBean.callShortTimeout(shortTimeoutBean));
+    }
+
+    static abstract class BaseBean {
+
+        @Inject
+        TransactionManager tm;
+
+        @Transactional
+        public int timeout() throws SystemException {
+            return ((TransactionImple) tm.getTransaction()).getTimeout();
+        }
+
+        @Transactional
+        @TransactionConfiguration(timeout = 5, timeoutFromConfigProperty = "test.transaction.timeout")
+        public int timeoutFromProperty() throws SystemException {
+            return ((TransactionImple) tm.getTransaction()).getTimeout();
+        }
+
+    }
+
+    @ApplicationScoped
+    @TransactionConfiguration(timeout = 10)
+    static class ShortTimeoutBean extends BaseBean {
+
+    }
+
+    @ApplicationScoped
+    @TransactionConfiguration(timeout = 20)
+    static class LongTimeoutBean extends BaseBean {
+
+        @Transactional
+        @TransactionConfiguration
+        public void callShortTimeout(ShortTimeoutBean bean) throws SystemException {
+            bean.timeout();
+        }
+
+    }
+
+}
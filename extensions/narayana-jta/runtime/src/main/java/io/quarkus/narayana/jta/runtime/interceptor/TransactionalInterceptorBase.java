@@ -38,7 +38,18 @@ public abstract class TransactionalInterceptorBase implements Serializable {
 
     private static final long serialVersionUID = 1L;
     private static final Logger log = Logger.getLogger(TransactionalInterceptorBase.class);
-    private final Map<Method, Integer> methodTransactionTimeoutDefinedByPropertyCache = new ConcurrentHashMap<>();
+
+    /**
+     * The timeout configurations resolved for the intercepted methods, per target class. A new interceptor instance is
+     * created for each intercepted bean instance, so the configurations are shared by all the instances. A
+     * {@link ClassValue} is used so that the values do not prevent the application classes from being unloaded.
+     */
+    private static final ClassValue<Map<Method, TimeoutConfiguration>> TIMEOUT_CONFIGURATIONS = new ClassValue<>() {
+        @Override
+        protected Map<Method, TimeoutConfiguration> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
     @Inject
     TransactionManager transactionManager;
@@ -84,18 +95,31 @@ public abstract class TransactionalInterceptorBase implements Serializable {
         throw new RuntimeException(jtaLogger.i18NLogger.get_expected_transactional_annotation());
     }
 
-    private TransactionConfiguration getTransactionConfiguration(InvocationContext ic) {
-        TransactionConfiguration configuration = ic.getMethod().getAnnotation(TransactionConfiguration.class);
+    /**
+     * Looking for the {@link TransactionConfiguration} annotation first on the method, second on the class. The result is
+     * resolved once per method and target class.
+     *
+     * @param ic invocation context of the interceptor
+     * @return the timeout configuration
+     */
+    private TimeoutConfiguration getTimeoutConfiguration(InvocationContext ic) {
+        Method method = ic.getMethod();
+        Object target = ic.getTarget();
+        // Very likely an intercepted static method if there is no target
+        Class<?> clazz = target != null ? target.getClass() : method.getDeclaringClass();
+        Map<Method, TimeoutConfiguration> configurations = TIMEOUT_CONFIGURATIONS.get(clazz);
+        TimeoutConfiguration configuration = configurations.get(method);
         if (configuration == null) {
-            Class<?> clazz;
-            Object target = ic.getTarget();
-            if (target != null) {
-                clazz = target.getClass();
-            } else {
-                // Very likely an intercepted static method
-                clazz = ic.getMethod().getDeclaringClass();
-            }
-            return clazz.getAnnotation(TransactionConfiguration.class);
+            configuration = configurations.computeIfAbsent(method, new Function<Method, TimeoutConfiguration>() {
+                @Override
+                public TimeoutConfiguration apply(Method m) {
+                    TransactionConfiguration annotation = m.getAnnotation(TransactionConfiguration.class);
+                    if (annotation == null) {
+                        annotation = clazz.getAnnotation(TransactionConfiguration.class);
+                    }
+                    return TimeoutConfiguration.of(annotation);
+                }
+            });
         }
         return configuration;
     }
@@ -108,7 +132,7 @@ public abstract class TransactionalInterceptorBase implements Serializable {
     protected Object invokeInOurTx(InvocationContext ic, TransactionManager tm, RunnableWithException afterEndTransaction)
             throws Exception {
 
-        int timeoutConfiguredForMethod = getTransactionTimeoutFromAnnotation(ic);
+        int timeoutConfiguredForMethod = getTimeoutConfiguration(ic).timeout;
 
         int currentTmTimeout = ((CDIDelegatingTransactionManager) transactionManager).getTransactionTimeout();
 
@@ -173,51 +197,6 @@ public abstract class TransactionalInterceptorBase implements Serializable {
         return ret;
     }
 
-    private int getTransactionTimeoutFromAnnotation(InvocationContext ic) {
-        TransactionConfiguration configAnnotation = getTransactionConfiguration(ic);
-
-        if (configAnnotation == null) {
-            return -1;
-        }
-
-        int transactionTimeout = -1;
-
-        if (!configAnnotation.timeoutFromConfigProperty().equals(TransactionConfiguration.UNSET_TIMEOUT_CONFIG_PROPERTY)) {
-            Integer timeoutForMethod = methodTransactionTimeoutDefinedByPropertyCache.get(ic.getMethod());
-            if (timeoutForMethod != null) {
-                transactionTimeout = timeoutForMethod;
-            } else {
-                transactionTimeout = methodTransactionTimeoutDefinedByPropertyCache.computeIfAbsent(ic.getMethod(),
-                        new Function<Method, Integer>() {
-                            @Override
-                            public Integer apply(Method m) {
-                                return TransactionalInterceptorBase.this.getTransactionTimeoutPropertyValue(configAnnotation);
-                            }
-                        });
-            }
-        }
-
-        if (transactionTimeout == -1 && (configAnnotation.timeout() != TransactionConfiguration.UNSET_TIMEOUT)) {
-            transactionTimeout = configAnnotation.timeout();
-        }
-
-        return transactionTimeout;
-    }
-
-    private Integer getTransactionTimeoutPropertyValue(TransactionConfiguration configAnnotation) {
-        Optional<Integer> configTimeout = ConfigProvider.getConfig()
-                .getOptionalValue(configAnnotation.timeoutFromConfigProperty(), Integer.class);
-        if (configTimeout.isEmpty()) {
-            if (log.isDebugEnabled()) {
-                log.debugf("Configuration property '%s' was not provided, so it will not affect the transaction's timeout.",
-                        configAnnotation.timeoutFromConfigProperty());
-            }
-            return -1;
-        }
-
-        return configTimeout.get();
-    }
-
     protected Object handleAsync(TransactionManager tm, Transaction tx, InvocationContext ic, Object ret,
             RunnableWithException afterEndTransaction) throws Exception {
         // Suspend the transaction to remove it from the main request thread
@@ -313,10 +292,7 @@ public abstract class TransactionalInterceptorBase implements Serializable {
     }
 
     private void checkConfiguration(InvocationContext ic) {
-        TransactionConfiguration configAnnotation = getTransactionConfiguration(ic);
-        if (configAnnotation != null && ((configAnnotation.timeout() != TransactionConfiguration.UNSET_TIMEOUT)
-                || !TransactionConfiguration.UNSET_TIMEOUT_CONFIG_PROPERTY
-                        .equals(configAnnotation.timeoutFromConfigProperty()))) {
+        if (getTimeoutConfiguration(ic).configured) {
             throw new RuntimeException("Changing timeout via @TransactionConfiguration can only be done " +
                     "at the entry level of a transaction");
         }
@@ -401,4 +377,53 @@ public abstract class TransactionalInterceptorBase implements Serializable {
     private static <E extends Throwable> void sneakyThrow(Throwable e) throws E {
         throw (E) e;
     }
+
+    /**
+     * The transaction timeout configured with {@link TransactionConfiguration}.
+     */
+    static final class TimeoutConfiguration {
+
+        static final TimeoutConfiguration NONE = new TimeoutConfiguration(false, -1);
+
+        static TimeoutConfiguration of(TransactionConfiguration annotation) {
+            if (annotation == null) {
+                return NONE;
+            }
+            boolean configured = annotation.timeout() != TransactionConfiguration.UNSET_TIMEOUT
+                    || !TransactionConfiguration.UNSET_TIMEOUT_CONFIG_PROPERTY.equals(annotation.timeoutFromConfigProperty());
+            int timeout = -1;
+            if (!annotation.timeoutFromConfigProperty().equals(TransactionConfiguration.UNSET_TIMEOUT_CONFIG_PROPERTY)) {
+                timeout = getTransactionTimeoutPropertyValue(annotation);
+            }
+            if (timeout == -1 && (annotation.timeout() != TransactionConfiguration.UNSET_TIMEOUT)) {
+                timeout = annotation.timeout();
+            }
+            return configured ? new TimeoutConfiguration(true, timeout) : NONE;
+        }
+
+        // true if the annotation sets a timeout or a timeout config property
+        final boolean configured;
+        // the timeout in seconds, -1 if not set
+        final int timeout;
+
+        private TimeoutConfiguration(boolean configured, int timeout) {
+            this.configured = configured;
+            this.timeout = timeout;
+        }
+
+        private static int getTransactionTimeoutPropertyValue(TransactionConfiguration configAnnotation) {
+            Optional<Integer> configTimeout = ConfigProvider.getConfig()
+                    .getOptionalValue(configAnnotation.timeoutFromConfigProperty(), Integer.class);
+            if (configTimeout.isEmpty()) {
+                if (log.isDebugEnabled()) {
+                    log.debugf("Configuration property '%s' was not provided, so it will not affect the transaction's timeout.",
+                            configAnnotation.timeoutFromConfigProperty());
+                }
+                return -1;
+            }
+
+            return configTimeout.get();
+        }
+
+    }
 }
@@ -50,6 +50,8 @@ import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageProxyDefinitionBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.quartz.runtime.QuarkusQuartzConnectionPoolProvider;
 import io.quarkus.quartz.runtime.QuartzBuildTimeConfig;
 import io.quarkus.quartz.runtime.QuartzExtensionPointConfig;
@@ -57,7 +59,9 @@ import io.quarkus.quartz.runtime.QuartzRecorder;
 import io.quarkus.quartz.runtime.QuartzRuntimeConfig;
 import io.quarkus.quartz.runtime.QuartzScheduler;
 import io.quarkus.quartz.runtime.QuartzSupport;
+import io.quarkus.quartz.runtime.QuartzTriggerMetrics;
 import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.scheduler.runtime.SchedulerConfig;
 
 /**
  *
@@ -245,4 +249,15 @@ public class QuartzProcessor {
                 .setRuntimeInit()
                 .supplier(recorder.quartzSupportSupplier(runtimeConfig, buildTimeConfig, driverDialect.getDriver())).done());
     }
+
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void registerTriggerMetrics(SchedulerConfig schedulerConfig, Optional<MetricsCapabilityBuildItem> metricsCapability,
+            QuartzRecorder recorder, BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (schedulerConfig.metricsEnabled && metricsCapability.isPresent()) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(QuartzTriggerMetrics.class));
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerTriggerMetrics()));
+        }
+    }
 }
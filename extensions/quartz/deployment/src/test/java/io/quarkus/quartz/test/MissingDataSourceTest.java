@@ -15,7 +15,9 @@ public class MissingDataSourceTest {
             .setExpectedException(ConfigurationException.class)
             .withApplicationRoot((jar) -> jar
                     .addClasses(SimpleJobs.class)
-                    .addAsResource(new StringAsset("quarkus.quartz.store-type=jdbc-cmt"), "application.properties"));
+                    // H2 is on the test classpath, make sure the dev services do not provide the default datasource
+                    .addAsResource(new StringAsset("quarkus.quartz.store-type=jdbc-cmt\n"
+                            + "quarkus.datasource.devservices.enabled=false"), "application.properties"));
 
     @Test
     public void shouldFailAndNotReachHere() {
@@ -0,0 +1,57 @@
+package io.quarkus.quartz.test.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.SimpleTimer;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.impl.jdbcjobstore.JobStoreCMT;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class JdbcStoreTriggerMetricsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class)
+                    .addAsResource("quartz-tables-h2.sql")
+                    .addAsResource(new StringAsset("quarkus.scheduler.metrics.enabled=true\n"
+                            + "quarkus.datasource.db-kind=h2\n"
+                            + "quarkus.datasource.jdbc.url=jdbc:h2:mem:batch;DB_CLOSE_DELAY=-1;"
+                            + "INIT=RUNSCRIPT FROM 'classpath:quartz-tables-h2.sql'\n"
+                            + "quarkus.quartz.store-type=jdbc-cmt\n"
+                            + "quarkus.quartz.batch-trigger-acquisition-max-count=5\n"
+                            + "quarkus.quartz.batch-trigger-acquisition-fire-ahead-time-window=0.1S"),
+                            "application.properties"));
+
+    @Inject
+    Scheduler quartz;
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry metricRegistry;
+
+    @Test
+    void testTriggersAcquiredInBatches() throws InterruptedException, SchedulerException {
+        assertEquals(JobStoreCMT.class, quartz.getMetaData().getJobStoreClass());
+        assertTrue(Jobs.latch01.await(5, TimeUnit.SECONDS));
+        assertTrue(Jobs.latch02.await(5, TimeUnit.SECONDS));
+        SimpleTimer fireDelay = metricRegistry.getSimpleTimer(new MetricID("quartz.trigger.fire.delay"));
+        assertNotNull(fireDelay);
+        assertTrue(fireDelay.getCount() > 0);
+    }
+
+}
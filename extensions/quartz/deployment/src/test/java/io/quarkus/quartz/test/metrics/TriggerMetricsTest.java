@@ -0,0 +1,48 @@
+package io.quarkus.quartz.test.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.SimpleTimer;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TriggerMetricsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class)
+                    .addAsResource(new StringAsset("quarkus.scheduler.metrics.enabled=true\n"
+                            + "quarkus.quartz.batch-trigger-acquisition-max-count=5\n"
+                            + "quarkus.quartz.batch-trigger-acquisition-fire-ahead-time-window=0.1S"),
+                            "application.properties"));
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry metricRegistry;
+
+    @Test
+    void testTriggerMetrics() throws InterruptedException {
+        assertTrue(Jobs.latch01.await(5, TimeUnit.SECONDS));
+        SimpleTimer fireDelay = metricRegistry.getSimpleTimer(new MetricID("quartz.trigger.fire.delay"));
+        assertNotNull(fireDelay);
+        assertTrue(fireDelay.getCount() > 0);
+        Counter misfires = metricRegistry.getCounter(new MetricID("quartz.trigger.misfires"));
+        assertNotNull(misfires);
+        assertEquals(0, misfires.getCount());
+    }
+
+}
@@ -0,0 +1,59 @@
+package io.quarkus.quartz.test.metrics;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.time.Duration;
+
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TriggerMisfireMetricsTest {
+
+    // the misfire threshold is only applied to the JDBC job stores
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(SlowJobs.class)
+                    .addAsResource("quartz-tables-h2.sql")
+                    .addAsResource(new StringAsset("quarkus.scheduler.metrics.enabled=true\n"
+                            + "quarkus.datasource.db-kind=h2\n"
+                            + "quarkus.datasource.jdbc.url=jdbc:h2:mem:misfire;DB_CLOSE_DELAY=-1;"
+                            + "INIT=RUNSCRIPT FROM 'classpath:quartz-tables-h2.sql'\n"
+                            + "quarkus.quartz.store-type=jdbc-cmt\n"
+                            + "quarkus.quartz.thread-count=1\n"
+                            + "quarkus.quartz.misfire-threshold=0.5S"),
+                            "application.properties"));
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry metricRegistry;
+
+    @Test
+    void testMisfiresAreCounted() {
+        Counter misfires = metricRegistry.getCounter(new MetricID("quartz.trigger.misfires"));
+        assertNotNull(misfires);
+        // the only worker thread is kept busy by the first execution so the next ones miss their fire time
+        await().atMost(Duration.ofSeconds(10)).until(() -> misfires.getCount() > 0);
+    }
+
+    static class SlowJobs {
+
+        @Scheduled(every = "1s")
+        void everySecond() throws InterruptedException {
+            Thread.sleep(2000);
+        }
+
+    }
+
+}
@@ -1,9 +1,12 @@
 package io.quarkus.quartz.runtime;
 
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import io.quarkus.arc.Arc;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 @Recorder
 public class QuartzRecorder {
@@ -18,4 +21,14 @@ public class QuartzRecorder {
         };
     }
 
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerTriggerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                Arc.container().instance(QuartzTriggerMetrics.class).get().registerMetrics(metricsFactory);
+            }
+        };
+    }
+
 }
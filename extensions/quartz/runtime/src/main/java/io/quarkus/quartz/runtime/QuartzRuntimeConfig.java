@@ -37,6 +37,24 @@ public class QuartzRuntimeConfig {
     @ConfigItem(defaultValue = "60")
     public Duration misfireThreshold;
 
+    /**
+     * The maximum number of triggers that a scheduler node is allowed to acquire (for firing) at once.
+     * <p>
+     * Acquiring the triggers in batches reduces the number of round trips to the job store, and thus the contention on
+     * the lock of a clustered JDBC job store, at the cost of a less even distribution of the triggers across the nodes.
+     * It should not be greater than the thread count.
+     */
+    @ConfigItem(defaultValue = "1")
+    public int batchTriggerAcquisitionMaxCount;
+
+    /**
+     * The amount of time that a trigger is allowed to be acquired and fired ahead of its scheduled fire time.
+     * <p>
+     * Only relevant if {@code batch-trigger-acquisition-max-count} is greater than 1.
+     */
+    @ConfigItem(defaultValue = "0")
+    public Duration batchTriggerAcquisitionFireAheadTimeWindow;
+
     /**
      * Scheduler can be started in different modes: normal, forced or halted.
      * By default, the scheduler is not started unless a {@link io.quarkus.scheduler.Scheduled} business method
@@ -93,7 +93,7 @@ public class QuartzScheduler implements Scheduler {
     public QuartzScheduler(SchedulerContext context, QuartzSupport quartzSupport, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successfulExecutionEvent,
             Event<FailedExecution> failedExecutionEvent, Instance<Job> jobs, Instance<UserTransaction> userTransaction,
-            Vertx vertx) {
+            Instance<QuartzTriggerMetrics> triggerMetrics, Vertx vertx) {
         enabled = schedulerRuntimeConfig.enabled;
         final Duration defaultOverdueGracePeriod = schedulerRuntimeConfig.overdueGracePeriod;
         final QuartzRuntimeConfig runtimeConfig = quartzSupport.getRuntimeConfig();
@@ -129,6 +129,9 @@ public class QuartzScheduler implements Scheduler {
 
                 // Set custom job factory
                 scheduler.setJobFactory(new InvokerJobFactory(scheduledTasks, jobs, vertx));
+                if (triggerMetrics.isResolvable()) {
+                    scheduler.getListenerManager().addTriggerListener(triggerMetrics.get());
+                }
                 CronType cronType = context.getCronType();
                 CronDefinition def = CronDefinitionBuilder.instanceDefinitionFor(cronType);
                 CronParser parser = new CronParser(def);
@@ -500,6 +503,10 @@ public class QuartzScheduler implements Scheduler {
                 "" + quartzSupport.getRuntimeConfig().threadCount);
         props.put(StdSchedulerFactory.PROP_THREAD_POOL_PREFIX + ".threadPriority",
                 "" + quartzSupport.getRuntimeConfig().threadPriority);
+        props.put(StdSchedulerFactory.PROP_SCHED_MAX_BATCH_SIZE,
+                "" + quartzSupport.getRuntimeConfig().batchTriggerAcquisitionMaxCount);
+        props.put(StdSchedulerFactory.PROP_SCHED_BATCH_TIME_WINDOW,
+                "" + quartzSupport.getRuntimeConfig().batchTriggerAcquisitionFireAheadTimeWindow.toMillis());
         props.put(StdSchedulerFactory.PROP_SCHED_RMI_EXPORT, "false");
         props.put(StdSchedulerFactory.PROP_SCHED_RMI_PROXY, "false");
         props.put(StdSchedulerFactory.PROP_JOB_STORE_CLASS, buildTimeConfig.storeType.clazz);
@@ -521,6 +528,9 @@ public class QuartzScheduler implements Scheduler {
                 props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".acquireTriggersWithinLock", "true");
                 props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".clusterCheckinInterval",
                         "" + quartzSupport.getBuildTimeConfig().clusterCheckinInterval);
+            } else if (quartzSupport.getRuntimeConfig().batchTriggerAcquisitionMaxCount > 1) {
+                // triggers acquired in batches must be acquired within the lock to avoid firing them twice
+                props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".acquireTriggersWithinLock", "true");
             }
 
             if (buildTimeConfig.storeType.isNonManagedTxJobStore()) {
@@ -0,0 +1,63 @@
+package io.quarkus.quartz.runtime;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.inject.Singleton;
+
+import org.quartz.JobExecutionContext;
+import org.quartz.Trigger;
+import org.quartz.Trigger.CompletedExecutionInstruction;
+import org.quartz.TriggerListener;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Records the delay between the scheduled and the actual fire time of the triggers, as well as the number of misfires.
+ * <p>
+ * Added as a bean when {@code quarkus.scheduler.metrics.enabled} is set and the application provides a {@link MetricsFactory}.
+ */
+@Singleton
+public class QuartzTriggerMetrics implements TriggerListener {
+
+    private final LongAdder misfires = new LongAdder();
+    private volatile MetricsFactory.TimeRecorder fireDelay;
+
+    void registerMetrics(MetricsFactory metricsFactory) {
+        fireDelay = metricsFactory.builder("quartz.trigger.fire.delay")
+                .description("The delay between the scheduled fire time of a trigger and the time it actually fired")
+                .buildTimer();
+        metricsFactory.builder("quartz.trigger.misfires")
+                .description("The number of triggers that missed their fire time")
+                .buildCounter(misfires, LongAdder::sum);
+    }
+
+    @Override
+    public String getName() {
+        return QuartzTriggerMetrics.class.getName();
+    }
+
+    @Override
+    public void triggerFired(Trigger trigger, JobExecutionContext context) {
+        MetricsFactory.TimeRecorder recorder = fireDelay;
+        if (recorder != null && context.getScheduledFireTime() != null) {
+            long delay = context.getFireTime().getTime() - context.getScheduledFireTime().getTime();
+            recorder.update(Math.max(0, delay), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public boolean vetoJobExecution(Trigger trigger, JobExecutionContext context) {
+        return false;
+    }
+
+    @Override
+    public void triggerMisfired(Trigger trigger) {
+        misfires.increment();
+    }
+
+    @Override
+    public void triggerComplete(Trigger trigger, JobExecutionContext context,
+            CompletedExecutionInstruction triggerInstructionCode) {
+    }
+}
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
@@ -19,10 +20,13 @@ import org.jboss.jandex.MethodParameterInfo;
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Consume;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
@@ -31,8 +35,14 @@ import io.quarkus.deployment.builditem.RunTimeConfigurationDefaultBuildItem;
 import io.quarkus.deployment.builditem.RuntimeConfigSetupCompleteBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.smallrye.reactivemessaging.deployment.items.ConnectorManagedChannelBuildItem;
+import io.quarkus.smallrye.reactivemessaging.kafka.KafkaBatchMetrics;
+import io.quarkus.smallrye.reactivemessaging.kafka.KafkaOrderingKeyDecorator;
 import io.quarkus.smallrye.reactivemessaging.kafka.ReactiveMessagingKafkaConfig;
+import io.quarkus.smallrye.reactivemessaging.kafka.ReactiveMessagingKafkaRecorder;
+import io.quarkus.smallrye.reactivemessaging.runtime.ReactiveMessagingConfiguration;
 import io.smallrye.mutiny.tuples.Functions.TriConsumer;
 import io.vertx.kafka.client.consumer.impl.KafkaReadStreamImpl;
 
@@ -67,6 +77,22 @@ public class SmallRyeReactiveMessagingKafkaProcessor {
         }
     }
 
+    @BuildStep
+    AdditionalBeanBuildItem orderingKeyDecorator() {
+        return AdditionalBeanBuildItem.unremovableOf(KafkaOrderingKeyDecorator.class);
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerBatchMetrics(ReactiveMessagingConfiguration configuration,
+            Optional<MetricsCapabilityBuildItem> metricsCapability, ReactiveMessagingKafkaRecorder recorder,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans, BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (configuration.metricsEnabled && metricsCapability.isPresent()) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(KafkaBatchMetrics.class));
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerBatchMetrics()));
+        }
+    }
+
     /**
      * Handles the serializer/deserializer detection and whether the graceful shutdown should be used in dev mode.
      */
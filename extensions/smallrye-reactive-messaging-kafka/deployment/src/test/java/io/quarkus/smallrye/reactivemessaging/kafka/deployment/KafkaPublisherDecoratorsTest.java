@@ -0,0 +1,145 @@
+package io.quarkus.smallrye.reactivemessaging.kafka.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.SimpleTimer;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.smallrye.reactivemessaging.kafka.KafkaBatchMetrics;
+import io.quarkus.smallrye.reactivemessaging.kafka.KafkaOrderingKeyDecorator;
+import io.quarkus.smallrye.reactivemessaging.runtime.QuarkusWorkerPoolRegistry;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.annotations.Blocking;
+import io.smallrye.reactive.messaging.kafka.IncomingKafkaRecord;
+import io.smallrye.reactive.messaging.kafka.IncomingKafkaRecordBatch;
+import io.smallrye.reactive.messaging.providers.locals.LocalContextMetadata;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+
+public class KafkaPublisherDecoratorsTest {
+
+    // no broker is available: the Kafka channels are disabled and the tests pass the records to the decorators
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(KeyedConsumer.class))
+            .overrideConfigKey("quarkus.reactive-messaging.metrics.enabled", "true")
+            .overrideConfigKey("quarkus.kafka.devservices.enabled", "false")
+            .overrideConfigKey("mp.messaging.incoming.batched.connector", "smallrye-kafka")
+            .overrideConfigKey("mp.messaging.incoming.batched.batch", "true")
+            .overrideConfigKey("mp.messaging.incoming.batched.enabled", "false")
+            .overrideConfigKey("mp.messaging.incoming.keyed.connector", "smallrye-kafka")
+            .overrideConfigKey("mp.messaging.incoming.keyed.enabled", "false")
+            .overrideConfigKey("smallrye.messaging.worker.lanes.max-concurrency", "2")
+            .overrideConfigKey("smallrye.messaging.worker.lanes.key-ordered-lanes", "2");
+
+    @Inject
+    KafkaBatchMetrics batchMetrics;
+
+    @Inject
+    KafkaOrderingKeyDecorator orderingKeyDecorator;
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry metricRegistry;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testBatchesAreMeasured() {
+        long now = System.currentTimeMillis();
+        List<? extends Message<?>> received = batchMetrics
+                .decorate(Multi.createFrom().items(batch(now - 1000, now - 500, now), batch(now - 2000, now)), "batched")
+                .collect().asList().await().atMost(Duration.ofSeconds(5));
+        assertThat(received).hasSize(2);
+
+        Tag channel = new Tag("channel", "batched");
+        Counter batches = metricRegistry.getCounter(new MetricID("kafka.batch.count", channel));
+        Counter records = metricRegistry.getCounter(new MetricID("kafka.batch.records", channel));
+        SimpleTimer delay = metricRegistry.getSimpleTimer(new MetricID("kafka.batch.delay", channel));
+        assertThat(batches.getCount()).isEqualTo(2);
+        assertThat(records.getCount()).isEqualTo(5);
+        assertThat(delay.getCount()).isEqualTo(2);
+        // the delay is measured from the oldest record of each batch
+        assertThat(delay.getElapsedTime()).isGreaterThanOrEqualTo(Duration.ofMillis(3000));
+    }
+
+    @Test
+    public void testKeyIsStoredInTheMessageContext() {
+        Context keyed = duplicatedContext();
+        Context unkeyed = duplicatedContext();
+        List<? extends Message<?>> received = orderingKeyDecorator
+                .decorate(Multi.createFrom().items(record("a", keyed), record(null, unkeyed)), "keyed")
+                .collect().asList().await().atMost(Duration.ofSeconds(5));
+
+        assertThat(received).hasSize(2);
+        assertThat((Object) keyed.getLocal(QuarkusWorkerPoolRegistry.ORDERING_KEY)).isEqualTo("a");
+        assertThat((Object) unkeyed.getLocal(QuarkusWorkerPoolRegistry.ORDERING_KEY)).isNull();
+    }
+
+    @Test
+    public void testChannelsAreFiltered() {
+        Multi<? extends Message<?>> publisher = Multi.createFrom().item(Message.of("foo"));
+        assertThat(batchMetrics.decorate(publisher, "keyed")).isSameAs(publisher);
+        assertThat(batchMetrics.decorate(publisher, "other")).isSameAs(publisher);
+        assertThat(orderingKeyDecorator.decorate(publisher, "other")).isSameAs(publisher);
+    }
+
+    @ApplicationScoped
+    public static class KeyedConsumer {
+
+        @Incoming("keyed")
+        @Blocking(value = "lanes", ordered = false)
+        public void consume(String price) {
+        }
+    }
+
+    private Context duplicatedContext() {
+        return ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+    }
+
+    private static Message<String> record(String key, Context context) {
+        return new IncomingKafkaRecord<>(consumerRecord("keyed", 0, System.currentTimeMillis(), key), "keyed", null, null,
+                false, false).addMetadata(new LocalContextMetadata(context));
+    }
+
+    private static IncomingKafkaRecordBatch<String, String> batch(long... timestamps) {
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        for (int i = 0; i < timestamps.length; i++) {
+            records.add(consumerRecord("batched", i, timestamps[i], null));
+        }
+        return new IncomingKafkaRecordBatch<>(new ConsumerRecords<>(Map.of(new TopicPartition("batched", 0), records)),
+                "batched", null, null, false, false);
+    }
+
+    private static ConsumerRecord<String, String> consumerRecord(String topic, long offset, long timestamp, String key) {
+        return new ConsumerRecord<>(topic, 0, offset, timestamp, TimestampType.CREATE_TIME, -1, -1, key, "price-" + offset,
+                new RecordHeaders(), Optional.empty());
+    }
+
+}
@@ -0,0 +1,84 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.inject.Singleton;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.kafka.KafkaConnector;
+import io.smallrye.reactive.messaging.kafka.KafkaRecord;
+import io.smallrye.reactive.messaging.kafka.KafkaRecordBatch;
+import io.smallrye.reactive.messaging.providers.PublisherDecorator;
+
+/**
+ * Records the number of batches and records received by the Kafka incoming channels consuming in batch mode, as well as
+ * the delay between the timestamp of the oldest record of a batch and the time the batch is dispatched.
+ * <p>
+ * Added by the Kafka processor when {@code quarkus.reactive-messaging.metrics.enabled} is {@code true} and a metrics
+ * capability is available. Until the recorder hands over the {@link MetricsFactory}, and for the channels that are not
+ * Kafka batch channels, the publisher is returned unchanged.
+ */
+@Singleton
+public class KafkaBatchMetrics implements PublisherDecorator {
+
+    private volatile MetricsFactory metricsFactory;
+
+    void setMetricsFactory(MetricsFactory metricsFactory) {
+        this.metricsFactory = metricsFactory;
+    }
+
+    @Override
+    public Multi<? extends Message<?>> decorate(Multi<? extends Message<?>> publisher, String channelName) {
+        MetricsFactory factory = metricsFactory;
+        if (factory == null || !isKafkaBatchChannel(channelName)) {
+            return publisher;
+        }
+        LongAdder batches = new LongAdder();
+        LongAdder records = new LongAdder();
+        factory.builder("kafka.batch.count")
+                .description("The number of record batches received by the channel")
+                .tag("channel", channelName)
+                .buildCounter(batches, LongAdder::sum);
+        factory.builder("kafka.batch.records")
+                .description("The number of records received in batches by the channel")
+                .tag("channel", channelName)
+                .buildCounter(records, LongAdder::sum);
+        MetricsFactory.TimeRecorder delay = factory.builder("kafka.batch.delay")
+                .description("The delay between the timestamp of the oldest record of a batch and its dispatch")
+                .tag("channel", channelName)
+                .buildTimer();
+        return publisher.invoke(message -> {
+            if (message instanceof KafkaRecordBatch) {
+                KafkaRecordBatch<?, ?> batch = (KafkaRecordBatch<?, ?>) message;
+                long oldest = Long.MAX_VALUE;
+                int size = 0;
+                for (KafkaRecord<?, ?> record : batch) {
+                    long timestamp = record.getTimestamp().toEpochMilli();
+                    if (timestamp >= 0 && timestamp < oldest) {
+                        oldest = timestamp;
+                    }
+                    size++;
+                }
+                batches.increment();
+                records.add(size);
+                if (oldest != Long.MAX_VALUE) {
+                    delay.update(Math.max(0, System.currentTimeMillis() - oldest), TimeUnit.MILLISECONDS);
+                }
+            }
+        });
+    }
+
+    private static boolean isKafkaBatchChannel(String channelName) {
+        Config config = ConfigProvider.getConfig();
+        String prefix = "mp.messaging.incoming." + channelName + ".";
+        return config.getOptionalValue(prefix + "connector", String.class)
+                .filter(KafkaConnector.CONNECTOR_NAME::equals).isPresent()
+                && config.getOptionalValue(prefix + "batch", Boolean.class).orElse(false);
+    }
+}
@@ -0,0 +1,51 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.Optional;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import io.quarkus.smallrye.reactivemessaging.runtime.QuarkusWorkerPoolRegistry;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.kafka.KafkaConnector;
+import io.smallrye.reactive.messaging.kafka.api.IncomingKafkaRecordMetadata;
+import io.smallrye.reactive.messaging.providers.PublisherDecorator;
+import io.smallrye.reactive.messaging.providers.locals.LocalContextMetadata;
+import io.vertx.core.Context;
+
+/**
+ * Stores the key of the incoming Kafka records in their message context, so that the worker pools configured with
+ * {@code key-ordered-lanes} process the records sharing a key in order.
+ */
+@Singleton
+public class KafkaOrderingKeyDecorator implements PublisherDecorator {
+
+    @Inject
+    QuarkusWorkerPoolRegistry workerPoolRegistry;
+
+    @Override
+    public Multi<? extends Message<?>> decorate(Multi<? extends Message<?>> publisher, String channelName) {
+        if (!workerPoolRegistry.hasKeyOrderedLanes() || !isKafkaChannel(channelName)) {
+            return publisher;
+        }
+        return publisher.invoke(message -> {
+            Optional<IncomingKafkaRecordMetadata<?, ?>> record = message.getMetadata(IncomingKafkaRecordMetadata.class)
+                    .map(metadata -> (IncomingKafkaRecordMetadata<?, ?>) metadata);
+            Optional<LocalContextMetadata> local = message.getMetadata(LocalContextMetadata.class);
+            if (record.isPresent() && record.get().getKey() != null && local.isPresent()) {
+                Context context = local.get().context();
+                if (context != null) {
+                    context.putLocal(QuarkusWorkerPoolRegistry.ORDERING_KEY, record.get().getKey());
+                }
+            }
+        });
+    }
+
+    private static boolean isKafkaChannel(String channelName) {
+        return ConfigProvider.getConfig().getOptionalValue("mp.messaging.incoming." + channelName + ".connector", String.class)
+                .filter(KafkaConnector.CONNECTOR_NAME::equals).isPresent();
+    }
+}
@@ -0,0 +1,22 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.function.Consumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class ReactiveMessagingKafkaRecorder {
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerBatchMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                Arc.container().instance(KafkaBatchMetrics.class).get().setMetricsFactory(metricsFactory);
+            }
+        };
+    }
+
+}
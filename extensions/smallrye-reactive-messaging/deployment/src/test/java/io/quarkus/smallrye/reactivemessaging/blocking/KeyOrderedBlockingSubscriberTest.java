@@ -0,0 +1,126 @@
+package io.quarkus.smallrye.reactivemessaging.blocking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.eclipse.microprofile.reactive.messaging.spi.IncomingConnectorFactory;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.smallrye.reactivemessaging.runtime.QuarkusWorkerPoolRegistry;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.reactive.messaging.annotations.Blocking;
+import io.smallrye.reactive.messaging.providers.locals.LocalContextMetadata;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+
+public class KeyOrderedBlockingSubscriberTest {
+
+    private static final List<String> KEYS = List.of("a", "b", "c");
+    private static final String PAYLOAD = "payload";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(KeyedConnector.class, KeyedConsumer.class))
+            .overrideConfigKey("mp.messaging.incoming.in.connector", "keyed")
+            .overrideConfigKey("smallrye.messaging.worker.lanes.max-concurrency", "3")
+            .overrideConfigKey("smallrye.messaging.worker.lanes.key-ordered-lanes", "3");
+
+    @Inject
+    KeyedConsumer consumer;
+
+    @Test
+    public void testOrderIsPreservedPerKey() {
+        await().until(() -> consumer.received().values().stream().mapToInt(List::size).sum() == 30);
+        List<Integer> expected = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+        for (String key : KEYS) {
+            assertThat(consumer.received().get(key)).containsExactlyElementsOf(expected);
+        }
+        assertThat(consumer.threads()).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    public void testEachMessageIsProcessedOnItsOwnContext() {
+        await().until(() -> consumer.contextPayloads().size() == 30);
+        assertThat(consumer.contextPayloads()).allSatisfy((payload, contextPayload) -> {
+            assertThat(contextPayload).isEqualTo(payload);
+        });
+    }
+
+    @ApplicationScoped
+    @Connector("keyed")
+    public static class KeyedConnector implements IncomingConnectorFactory {
+
+        @Inject
+        Vertx vertx;
+
+        @Override
+        public PublisherBuilder<? extends Message<?>> getPublisherBuilder(Config config) {
+            List<Message<String>> messages = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                for (String key : KEYS) {
+                    Context context = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+                    // raw keys are hashed by content, a new array is created for every message
+                    Object orderingKey = "c".equals(key) ? key.getBytes(StandardCharsets.UTF_8) : key;
+                    context.putLocal(QuarkusWorkerPoolRegistry.ORDERING_KEY, orderingKey);
+                    context.putLocal(PAYLOAD, key + "-" + i);
+                    messages.add(Message.of(key + "-" + i).addMetadata(new LocalContextMetadata(context)));
+                }
+            }
+            return ReactiveStreams.fromIterable(messages);
+        }
+    }
+
+    @ApplicationScoped
+    public static class KeyedConsumer {
+
+        private final Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+        private final Set<String> threads = ConcurrentHashMap.newKeySet();
+        private final Map<String, Object> contextPayloads = new ConcurrentHashMap<>();
+
+        @Incoming("in")
+        @Blocking(value = "lanes", ordered = false)
+        public void consume(String payload) throws InterruptedException {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(20));
+            String[] parts = payload.split("-");
+            threads.add(Thread.currentThread().getName());
+            contextPayloads.put(payload, Vertx.currentContext().getLocal(PAYLOAD));
+            received.computeIfAbsent(parts[0], k -> new CopyOnWriteArrayList<>()).add(Integer.parseInt(parts[1]));
+        }
+
+        public Map<String, List<Integer>> received() {
+            return received;
+        }
+
+        public Set<String> threads() {
+            return threads;
+        }
+
+        public Map<String, Object> contextPayloads() {
+            return contextPayloads;
+        }
+    }
+
+}
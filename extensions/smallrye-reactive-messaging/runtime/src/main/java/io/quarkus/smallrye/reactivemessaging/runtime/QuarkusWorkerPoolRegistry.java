@@ -1,9 +1,12 @@
 package io.quarkus.smallrye.reactivemessaging.runtime;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Priority;
@@ -31,12 +34,22 @@ import io.vertx.mutiny.core.WorkerExecutor;
 public class QuarkusWorkerPoolRegistry extends WorkerPoolRegistry {
     private static final String WORKER_CONFIG_PREFIX = "smallrye.messaging.worker";
     private static final String WORKER_CONCURRENCY = "max-concurrency";
+    private static final String WORKER_KEY_ORDERED_LANES = "key-ordered-lanes";
+
+    /**
+     * The key of the local data of the message context holding the ordering key of the message, e.g. the Kafka record
+     * key. Messages sharing an ordering key are processed in order by the worker pools configured with
+     * {@code key-ordered-lanes}.
+     */
+    public static final String ORDERING_KEY = "io.quarkus.smallrye.reactivemessaging.ordering-key";
 
     @Inject
     ExecutionHolder executionHolder;
 
     private final Map<String, Integer> workerConcurrency = new HashMap<>();
+    private final Map<String, Integer> workerLanes = new HashMap<>();
     private final Map<String, WorkerExecutor> workerExecutors = new ConcurrentHashMap<>();
+    private final Map<String, OrderedLane[]> orderedLanes = new ConcurrentHashMap<>();
 
     public void terminate(
             @Observes(notifyObserver = Reception.IF_EXISTS) @Priority(100) @BeforeDestroyed(ApplicationScoped.class) Object event) {
@@ -56,6 +69,12 @@ public class QuarkusWorkerPoolRegistry extends WorkerPoolRegistry {
             }
             return executionHolder.vertx().executeBlocking(uni, ordered);
         } else {
+            if (currentContext != null && !ordered && workerLanes.containsKey(workerName)) {
+                Object key = currentContext.getDelegate().getLocal(ORDERING_KEY);
+                if (key != null) {
+                    return executeOnLane(currentContext, uni, workerName, key);
+                }
+            }
             if (currentContext != null) {
                 return getWorker(workerName).executeBlocking(uni, ordered)
                         .onItemOrFailure().transformToUni((item, failure) -> {
@@ -72,6 +91,37 @@ public class QuarkusWorkerPoolRegistry extends WorkerPoolRegistry {
         }
     }
 
+    private <T> Uni<T> executeOnLane(Context currentContext, Uni<T> uni, String workerName, Object key) {
+        OrderedLane[] lanes = orderedLanes.computeIfAbsent(workerName, name -> {
+            OrderedLane[] created = new OrderedLane[workerLanes.get(name)];
+            for (int i = 0; i < created.length; i++) {
+                created[i] = new OrderedLane();
+            }
+            return created;
+        });
+        // arrays, such as the byte[] keys of Kafka records, must be hashed by content to always select the same lane
+        int hash = key instanceof byte[] ? Arrays.hashCode((byte[]) key) : key.hashCode();
+        OrderedLane lane = lanes[Math.floorMod(hash, lanes.length)];
+        Uni<T> work = getWorker(workerName).executeBlocking(uni, false);
+        // the next task of the lane is started as soon as this one completes, without waiting for its result to be propagated,
+        // hence on the context of the previous message: each task switches to the context of its own message first
+        return Uni.createFrom().emitter(emitter -> lane.execute(() -> currentContext.runOnContext(() -> work.subscribe()
+                .with(item -> {
+                    lane.next();
+                    currentContext.runOnContext(() -> emitter.complete(item));
+                }, failure -> {
+                    lane.next();
+                    currentContext.runOnContext(() -> emitter.fail(failure));
+                }))));
+    }
+
+    /**
+     * @return {@code true} if a worker pool used by a {@link Blocking} method is configured with {@code key-ordered-lanes}
+     */
+    public boolean hasKeyOrderedLanes() {
+        return !workerLanes.isEmpty();
+    }
+
     public WorkerExecutor getWorker(String workerName) {
         Objects.requireNonNull(workerName, "Worker Name not specified");
 
@@ -122,6 +172,15 @@ public class QuarkusWorkerPoolRegistry extends WorkerPoolRegistry {
             }
 
             workerConcurrency.put(poolName, concurrency.get());
+
+            String lanesConfigKey = WORKER_CONFIG_PREFIX + "." + poolName + "." + WORKER_KEY_ORDERED_LANES;
+            Optional<Integer> lanes = ConfigProvider.getConfig().getOptionalValue(lanesConfigKey, Integer.class);
+            if (lanes.isPresent()) {
+                if (lanes.get() < 1) {
+                    throw getBlockingError(className, method, lanesConfigKey + " must be greater than zero");
+                }
+                workerLanes.put(poolName, lanes.get());
+            }
         }
     }
 
@@ -130,4 +189,36 @@ public class QuarkusWorkerPoolRegistry extends WorkerPoolRegistry {
                 "Invalid method annotated with @Blocking: " + className + "#" + method + " - " + message);
     }
 
+    /**
+     * Executes its tasks one at a time, in submission order. A task must call {@link #next()} once it completes.
+     */
+    static final class OrderedLane {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean running;
+
+        void execute(Runnable task) {
+            synchronized (this) {
+                if (running) {
+                    tasks.add(task);
+                    return;
+                }
+                running = true;
+            }
+            task.run();
+        }
+
+        void next() {
+            Runnable task;
+            synchronized (this) {
+                task = tasks.poll();
+                if (task == null) {
+                    running = false;
+                    return;
+                }
+            }
+            task.run();
+        }
+    }
+
 }
@@ -8,10 +8,12 @@ import static org.objectweb.asm.Opcodes.ACC_VOLATILE;
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.impl.ContextInstanceHandleImpl;
 import io.quarkus.arc.impl.Mockable;
 import io.quarkus.arc.processor.BeanGenerator.ProviderType;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
 import io.quarkus.arc.processor.ResourceOutput.Resource.SpecialType;
+import io.quarkus.gizmo.AssignableResultHandle;
 import io.quarkus.gizmo.BytecodeCreator;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.FieldCreator;
@@ -53,6 +55,7 @@ public class ClientProxyGenerator extends AbstractGenerator {
     static final String BEAN_FIELD = "bean";
     static final String MOCK_FIELD = "mock";
     static final String CONTEXT_FIELD = "context";
+    static final String HANDLE_FIELD = "handle";
 
     private final Predicate<DotName> applicationClassPredicate;
     private final boolean mockable;
@@ -132,6 +135,9 @@ public class ClientProxyGenerator extends AbstractGenerator {
             // It is safe to store the application context instance on the proxy
             contextField = clientProxy.getFieldCreator(CONTEXT_FIELD, InjectableContext.class)
                     .setModifiers(ACC_PRIVATE | ACC_FINAL);
+            // The handle of the contextual instance is cached until the instance is destroyed
+            clientProxy.getFieldCreator(HANDLE_FIELD, ContextInstanceHandleImpl.class)
+                    .setModifiers(ACC_PRIVATE | ACC_VOLATILE);
         }
 
         createConstructor(clientProxy, superClass, beanField.getFieldDescriptor(),
@@ -290,11 +296,33 @@ public class ClientProxyGenerator extends AbstractGenerator {
 
         if (BuiltinScope.APPLICATION.is(bean.getScope())) {
             // Application context is stored in a field and is always active
-            creator.returnValue(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE,
+            // The handle of the contextual instance is reused until the instance is destroyed:
+            // ContextInstanceHandleImpl handle = this.handle;
+            // if (handle == null || handle.isDestroyed()) {
+            //    handle = ClientProxies.getApplicationScopedHandle(this.context, this.bean);
+            //    this.handle = handle;
+            // }
+            // return handle.get();
+            FieldDescriptor handleField = FieldDescriptor.of(clientProxy.getClassName(), HANDLE_FIELD,
+                    ContextInstanceHandleImpl.class);
+            AssignableResultHandle handle = creator.createVariable(ContextInstanceHandleImpl.class);
+            creator.assign(handle, creator.readInstanceField(handleField, creator.getThis()));
+            BytecodeCreator notNull = creator.ifNull(handle).falseBranch();
+            BytecodeCreator notDestroyed = notNull
+                    .ifTrue(notNull.invokeVirtualMethod(MethodDescriptors.CONTEXT_INSTANCE_HANDLE_IS_DESTROYED, handle))
+                    .falseBranch();
+            notDestroyed.returnValue(notDestroyed.checkCast(
+                    notDestroyed.invokeInterfaceMethod(MethodDescriptors.INSTANCE_HANDLE_GET, handle),
+                    providerType.className()));
+            creator.assign(handle, creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_HANDLE,
                     creator.readInstanceField(
                             FieldDescriptor.of(clientProxy.getClassName(), CONTEXT_FIELD, InjectableContext.class),
                             creator.getThis()),
                     beanHandle));
+            creator.writeInstanceField(handleField, creator.getThis(), handle);
+            creator.returnValue(creator.checkCast(
+                    creator.invokeInterfaceMethod(MethodDescriptors.INSTANCE_HANDLE_GET, handle),
+                    providerType.className()));
         } else {
             creator.returnValue(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_DELEGATE,
                     beanHandle));
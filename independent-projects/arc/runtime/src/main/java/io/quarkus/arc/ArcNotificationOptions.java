@@ -0,0 +1,45 @@
+package io.quarkus.arc;
+
+import javax.enterprise.event.Event;
+import javax.enterprise.event.NotificationOptions;
+
+/**
+ * Custom {@link NotificationOptions} supported by {@link Event#fireAsync(Object, NotificationOptions)}.
+ */
+public final class ArcNotificationOptions {
+
+    /**
+     * If set to {@link Boolean#TRUE}, the async events of the same runtime type fired in a burst are delivered by a single
+     * task of the container executor, in the order they were fired, instead of one task per event.
+     * <p>
+     * The batches are shared by all the injected {@link Event} instances with the same type and qualifiers, even if they
+     * come from unrelated injection points. An {@link Event} obtained with {@code select()} batches its events on its own.
+     * <p>
+     * Each event still gets its own completion stage, and an exception thrown by an observer only affects the event being
+     * delivered. The option is ignored if a custom executor is specified.
+     *
+     * <h2>Example</h2>
+     *
+     * <pre>
+     * <code>
+     * event.fireAsync(payload, ArcNotificationOptions.batched());
+     * </code>
+     * </pre>
+     */
+    public static final String BATCHED_DELIVERY = "io.quarkus.arc.batchedDelivery";
+
+    private static final NotificationOptions BATCHED = NotificationOptions.of(BATCHED_DELIVERY, Boolean.TRUE);
+
+    /**
+     *
+     * @return the options enabling the batched delivery of async events
+     * @see #BATCHED_DELIVERY
+     */
+    public static NotificationOptions batched() {
+        return BATCHED;
+    }
+
+    private ArcNotificationOptions() {
+    }
+
+}
@@ -7,6 +7,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.enterprise.context.spi.Contextual;
@@ -37,6 +38,25 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
         }).get();
     }
 
+    /**
+     * Unlike {@link #get(Contextual, CreationalContext)}, the scope of the bean is not checked.
+     *
+     * @param bean
+     * @param creationalContextFun
+     * @return the handle of the contextual instance, the instance is created if needed
+     */
+    @SuppressWarnings("unchecked")
+    <T> ContextInstanceHandleImpl<T> getInstanceHandle(InjectableBean<T> bean,
+            Function<Contextual<T>, CreationalContext<T>> creationalContextFun) {
+        return (ContextInstanceHandleImpl<T>) instances.computeIfAbsent(bean.getIdentifier(),
+                new Supplier<ContextInstanceHandle<?>>() {
+                    @Override
+                    public ContextInstanceHandle<?> get() {
+                        return createInstanceHandle(bean, creationalContextFun.apply(bean));
+                    }
+                });
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T> T get(Contextual<T> contextual) {
@@ -73,7 +93,12 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
     @Override
     public void destroy(Contextual<?> contextual) {
         InjectableBean<?> bean = (InjectableBean<?>) contextual;
-        ContextInstanceHandle<?> handle = instances.remove(bean.getIdentifier());
+        ContextInstanceHandle<?> handle = instances.getValueIfPresent(bean.getIdentifier());
+        if (handle != null) {
+            // A client proxy may hold the handle, it must not be used once the instance is removed from the context
+            ((ContextInstanceHandleImpl<?>) handle).markDestroyed();
+        }
+        handle = instances.remove(bean.getIdentifier());
         if (handle != null) {
             handle.destroy();
         }
@@ -69,6 +69,7 @@ public class ArcContainerImpl implements ArcContainer {
 
     private static final Logger LOGGER = Logger.getLogger(ArcContainerImpl.class.getPackage().getName());
     private static final AtomicInteger ID_GENERATOR = new AtomicInteger();
+    private static final Annotation[] DEFAULT_QUALIFIER = { Default.Literal.INSTANCE };
 
     private final String id;
 
@@ -88,8 +89,13 @@ public class ArcContainerImpl implements ArcContainer {
     private final InjectableContext singletonContext;
 
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
+    // Lookups of a class with the @Default qualifier are the most common, there is no need to allocate a Resolvable
+    private final ComputingCache<Class<?>, Set<InjectableBean<?>>> resolvedDefault;
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
+    // Only the resolutions without custom qualifiers are cached, Event.select() may be called with any qualifier values
+    private final ComputingCache<EventResolvable, List<InjectableObserverMethod<?>>> resolvedObservers;
+    private final ComputingCache<EventResolvable, EventImpl.Notifiers<?>> notifiers;
 
     private final ArrayList<ResourceReferenceProvider> resourceProviders;
 
@@ -154,8 +160,11 @@ public class ArcContainerImpl implements ArcContainer {
         interceptors.sort((i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
 
         resolved = new ComputingCache<>(this::resolve);
+        resolvedDefault = new ComputingCache<>(type -> resolve(new Resolvable(type, DEFAULT_QUALIFIER)));
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
+        resolvedObservers = new ComputingCache<>(this::resolveObservers);
+        notifiers = new ComputingCache<>(r -> new EventImpl.Notifiers<>(r.eventType, new HashSet<>(r.qualifiers)));
         resourceProviders = new ArrayList<>();
         for (ResourceReferenceProvider resourceProvider : ServiceLoader.load(ResourceReferenceProvider.class)) {
             resourceProviders.add(resourceProvider);
@@ -255,10 +264,7 @@ public class ArcContainerImpl implements ArcContainer {
     @SuppressWarnings("unchecked")
     @Override
     public <T> Supplier<InstanceHandle<T>> instanceSupplier(Class<T> type, Annotation... qualifiers) {
-        if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
-        }
-        Set<InjectableBean<?>> resolvedBeans = resolved.getValue(new Resolvable(type, qualifiers));
+        Set<InjectableBean<?>> resolvedBeans = getResolvedBeans(type, qualifiers);
         Set<InjectableBean<?>> filteredBean = resolvedBeans;
         if (resolvedBeans.size() > 1) {
             //if there are multiple beans we look for an exact match
@@ -409,6 +415,9 @@ public class ArcContainerImpl implements ArcContainer {
             Reflections.clearCaches();
             contexts.clear();
             resolved.clear();
+            resolvedDefault.clear();
+            resolvedObservers.clear();
+            notifiers.clear();
             running.set(false);
             InterceptedStaticMethods.clear();
 
@@ -481,12 +490,10 @@ public class ArcContainerImpl implements ArcContainer {
 
     @SuppressWarnings("unchecked")
     private <T> InjectableBean<T> getBean(Type requiredType, Annotation... qualifiers) {
-        if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
-        } else {
+        if (qualifiers != null && qualifiers.length > 0) {
             Qualifiers.verify(qualifiers, qualifierNonbindingMembers.keySet());
         }
-        Set<InjectableBean<?>> resolvedBeans = resolved.getValue(new Resolvable(requiredType, qualifiers));
+        Set<InjectableBean<?>> resolvedBeans = getResolvedBeans(requiredType, qualifiers);
         return resolvedBeans.size() != 1 ? null : (InjectableBean<T>) resolvedBeans.iterator().next();
     }
 
@@ -726,25 +733,49 @@ public class ArcContainerImpl implements ArcContainer {
         return priority2.compareTo(priority1);
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * The result is cached if there are no qualifiers other than {@code @Any} and {@code @Default}, the returned list is
+     * immutable.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     <T> List<InjectableObserverMethod<? super T>> resolveObservers(Type eventType, Set<Annotation> eventQualifiers) {
         Qualifiers.verify(eventQualifiers, qualifierNonbindingMembers.keySet());
         if (observers.isEmpty()) {
             return Collections.emptyList();
         }
-        Set<Type> eventTypes = new HierarchyDiscovery(eventType).getTypeClosure();
-        List<InjectableObserverMethod<? super T>> resolvedObservers = new ArrayList<>();
+        EventResolvable resolvable = new EventResolvable(eventType, Set.copyOf(eventQualifiers));
+        for (Annotation qualifier : eventQualifiers) {
+            if (!Any.class.equals(qualifier.annotationType()) && !Default.class.equals(qualifier.annotationType())) {
+                return (List) resolveObservers(resolvable);
+            }
+        }
+        return (List) resolvedObservers.getValue(resolvable);
+    }
+
+    /**
+     * The notifiers of the events fired through the injection points with the given type and qualifiers. The result is
+     * cached until the container is shut down.
+     */
+    @SuppressWarnings("unchecked")
+    <T> EventImpl.Notifiers<T> getNotifiers(Type eventType, Set<Annotation> eventQualifiers) {
+        return (EventImpl.Notifiers<T>) notifiers.getValue(new EventResolvable(eventType, Set.copyOf(eventQualifiers)));
+    }
+
+    private List<InjectableObserverMethod<?>> resolveObservers(EventResolvable resolvable) {
+        Set<Type> eventTypes = new HierarchyDiscovery(resolvable.eventType).getTypeClosure();
+        List<InjectableObserverMethod<?>> resolvedObservers = new ArrayList<>();
         for (InjectableObserverMethod<?> observer : observers) {
             if (EventTypeAssignabilityRules.instance().matches(observer.getObservedType(), eventTypes)) {
                 if (observer.getObservedQualifiers().isEmpty()
-                        || Qualifiers.isSubset(observer.getObservedQualifiers(), eventQualifiers, qualifierNonbindingMembers)) {
-                    resolvedObservers.add((InjectableObserverMethod<? super T>) observer);
+                        || Qualifiers.isSubset(observer.getObservedQualifiers(), resolvable.qualifiers,
+                                qualifierNonbindingMembers)) {
+                    resolvedObservers.add(observer);
                 }
             }
         }
         // Observers with smaller priority values are called first
         resolvedObservers.sort(InjectableObserverMethod::compare);
-        return resolvedObservers;
+        return List.copyOf(resolvedObservers);
     }
 
     List<Interceptor<?>> resolveInterceptors(InterceptionType type, Annotation... interceptorBindings) {
@@ -808,7 +839,10 @@ public class ArcContainerImpl implements ArcContainer {
      */
     Set<InjectableBean<?>> getResolvedBeans(Type requiredType, Annotation... qualifiers) {
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            if (requiredType instanceof Class) {
+                return resolvedDefault.getValue((Class<?>) requiredType);
+            }
+            qualifiers = DEFAULT_QUALIFIER;
         }
         return resolved.getValue(new Resolvable(requiredType, qualifiers));
     }
@@ -874,6 +908,36 @@ public class ArcContainerImpl implements ArcContainer {
         return unwrap(Arc.container());
     }
 
+    private static final class EventResolvable {
+
+        final Type eventType;
+
+        final Set<Annotation> qualifiers;
+
+        EventResolvable(Type eventType, Set<Annotation> qualifiers) {
+            this.eventType = eventType;
+            this.qualifiers = qualifiers;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * eventType.hashCode() + qualifiers.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof EventResolvable)) {
+                return false;
+            }
+            EventResolvable other = (EventResolvable) obj;
+            return eventType.equals(other.eventType) && qualifiers.equals(other.qualifiers);
+        }
+
+    }
+
     private static final class Resolvable {
 
         private static final Annotation[] ANY_QUALIFIER = { Any.Literal.INSTANCE };
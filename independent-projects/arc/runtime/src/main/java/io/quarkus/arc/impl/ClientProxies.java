@@ -12,12 +12,18 @@ public final class ClientProxies {
     private ClientProxies() {
     }
 
-    public static <T> T getApplicationScopedDelegate(InjectableContext applicationContext, InjectableBean<T> bean) {
-        T result = applicationContext.get(bean);
-        if (result == null) {
-            result = applicationContext.get(bean, newCreationalContext(bean));
-        }
-        return result;
+    /**
+     * The client proxy of an application scoped bean may keep the returned handle until it's
+     * {@linkplain ContextInstanceHandleImpl#isDestroyed() destroyed}, instead of looking up the contextual instance for
+     * each invocation.
+     *
+     * @param applicationContext
+     * @param bean
+     * @return the handle of the contextual instance
+     */
+    public static <T> ContextInstanceHandleImpl<T> getApplicationScopedHandle(InjectableContext applicationContext,
+            InjectableBean<T> bean) {
+        return ((AbstractSharedContext) applicationContext).getInstanceHandle(bean, ClientProxies::newCreationalContext);
     }
 
     public static <T> T getDelegate(InjectableBean<T> bean) {
@@ -11,13 +11,31 @@ import javax.enterprise.context.spi.CreationalContext;
  */
 public class ContextInstanceHandleImpl<T> extends EagerInstanceHandle<T> implements ContextInstanceHandle<T> {
 
+    private volatile boolean destroyed;
+
     public ContextInstanceHandleImpl(InjectableBean<T> bean, T instance, CreationalContext<T> creationalContext) {
         super(bean, instance, creationalContext);
     }
 
     @Override
     public void destroy() {
+        destroyed = true;
         destroyInternal();
     }
 
+    /**
+     * Marks the handle as destroyed before the instance is actually destroyed.
+     */
+    void markDestroyed() {
+        destroyed = true;
+    }
+
+    /**
+     *
+     * @return {@code true} if the instance was destroyed, i.e. it was removed from its context
+     */
+    public boolean isDestroyed() {
+        return destroyed;
+    }
+
 }
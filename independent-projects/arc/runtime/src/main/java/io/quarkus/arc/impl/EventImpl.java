@@ -3,6 +3,7 @@ package io.quarkus.arc.impl;
 import static javax.transaction.Status.STATUS_COMMITTED;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcNotificationOptions;
 import io.quarkus.arc.AsyncObserverExceptionHandler;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
@@ -14,13 +15,17 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import javax.enterprise.event.Event;
@@ -50,21 +55,24 @@ class EventImpl<T> implements Event<T> {
     private static final int DEFAULT_CACHE_CAPACITY = 4;
     private static final NotificationOptions EMPTY_OPTIONS = NotificationOptions.builder().build();
 
-    private final HierarchyDiscovery injectionPointTypeHierarchy;
-    private final Type eventType;
-    private final Set<Annotation> qualifiers;
-    private final ConcurrentMap<Class<?>, Notifier<? super T>> notifiers;
+    /**
+     * The maximum number of events delivered by a single executor task in the batched async delivery mode, so that a
+     * continuous stream of events does not monopolize a thread of the executor.
+     */
+    private static final int MAX_ASYNC_BATCH_SIZE = 256;
+
+    private final Notifiers<T> notifiers;
 
     private transient volatile Notifier<? super T> lastNotifier;
 
     private static final Logger LOGGER = Logger.getLogger(EventImpl.class);
 
     EventImpl(Type eventType, Set<Annotation> qualifiers) {
-        this.eventType = initEventType(eventType);
-        this.injectionPointTypeHierarchy = new HierarchyDiscovery(this.eventType);
-        this.qualifiers = qualifiers;
-        this.qualifiers.add(Any.Literal.INSTANCE);
-        this.notifiers = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
+        this(new Notifiers<>(eventType, qualifiers));
+    }
+
+    EventImpl(Notifiers<T> notifiers) {
+        this.notifiers = notifiers;
     }
 
     @Override
@@ -86,6 +94,7 @@ class EventImpl<T> implements Event<T> {
         Notifier<U> notifier = (Notifier<U>) getNotifier(event.getClass());
 
         Executor executor = options.getExecutor();
+        boolean batched = executor == null && Boolean.TRUE.equals(options.get(ArcNotificationOptions.BATCHED_DELIVERY));
         if (executor == null) {
             executor = Arc.container().getExecutorService();
         }
@@ -94,6 +103,10 @@ class EventImpl<T> implements Event<T> {
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
+        if (batched) {
+            return new AsyncEventDeliveryStage<>(notifier.getAsyncBatch().submit(event, executor), executor);
+        }
+
         Supplier<U> notifyLogic = new Supplier<U>() {
             @Override
             public U get() {
@@ -115,21 +128,21 @@ class EventImpl<T> implements Event<T> {
         if (notifier != null && notifier.runtimeType.equals(runtimeType)) {
             return notifier;
         }
-        return this.lastNotifier = notifiers.computeIfAbsent(runtimeType, this::createNotifier);
+        return this.lastNotifier = notifiers.get(runtimeType);
     }
 
     @Override
     public Event<T> select(Annotation... qualifiers) {
         Qualifiers.verify(qualifiers, ArcContainerImpl.instance().getCustomQualifiers());
-        Set<Annotation> mergedQualifiers = new HashSet<>(this.qualifiers);
+        Set<Annotation> mergedQualifiers = new HashSet<>(notifiers.qualifiers);
         Collections.addAll(mergedQualifiers, qualifiers);
-        return new EventImpl<T>(eventType, mergedQualifiers);
+        return new EventImpl<T>(notifiers.eventType, mergedQualifiers);
     }
 
     @Override
     public <U extends T> Event<U> select(Class<U> subtype, Annotation... qualifiers) {
         Qualifiers.verify(qualifiers, ArcContainerImpl.instance().getCustomQualifiers());
-        Set<Annotation> mergerdQualifiers = new HashSet<>(this.qualifiers);
+        Set<Annotation> mergerdQualifiers = new HashSet<>(notifiers.qualifiers);
         Collections.addAll(mergerdQualifiers, qualifiers);
         return new EventImpl<U>(subtype, mergerdQualifiers);
     }
@@ -141,16 +154,11 @@ class EventImpl<T> implements Event<T> {
             throw new IllegalArgumentException(
                     "Event#select(TypeLiteral, Annotation...) cannot be used with type variable parameter");
         }
-        Set<Annotation> mergerdQualifiers = new HashSet<>(this.qualifiers);
+        Set<Annotation> mergerdQualifiers = new HashSet<>(notifiers.qualifiers);
         Collections.addAll(mergerdQualifiers, qualifiers);
         return new EventImpl<U>(subtype.getType(), mergerdQualifiers);
     }
 
-    private Notifier<? super T> createNotifier(Class<?> runtimeType) {
-        Type eventType = getEventType(runtimeType);
-        return createNotifier(runtimeType, eventType, qualifiers, ArcContainerImpl.unwrap(Arc.container()));
-    }
-
     static <T> Notifier<T> createNotifier(Class<?> runtimeType, Type eventType, Set<Annotation> qualifiers,
             ArcContainerImpl container) {
         return createNotifier(runtimeType, eventType, qualifiers, container, true);
@@ -164,42 +172,7 @@ class EventImpl<T> implements Event<T> {
         return new Notifier<>(runtimeType, notifierObserverMethods, metadata, activateRequestContext);
     }
 
-    private Type initEventType(Type type) {
-        if (type instanceof ParameterizedType) {
-            ParameterizedType parameterizedType = (ParameterizedType) type;
-            if (Event.class.isAssignableFrom(Types.getRawType(parameterizedType.getRawType()))) {
-                return parameterizedType.getActualTypeArguments()[0];
-            }
-        }
-        return type;
-    }
-
-    private Type getEventType(Class<?> runtimeType) {
-        Type resolvedType = runtimeType;
-        if (Types.containsTypeVariable(resolvedType)) {
-            /*
-             * If the container is unable to resolve the parameterized type of the event object, it uses the specified type to
-             * infer the parameterized type of
-             * the event types.
-             */
-            resolvedType = injectionPointTypeHierarchy.resolveType(resolvedType);
-        }
-        if (Types.containsTypeVariable(resolvedType)) {
-            /*
-             * Examining the hierarchy of the specified type did not help. This may still be one of the cases when combining the
-             * event type and the specified
-             * type reveals the actual values for type variables. Let's try that.
-             */
-            Type canonicalEventType = Types.getCanonicalType(runtimeType);
-            TypeResolver objectTypeResolver = new EventObjectTypeResolverBuilder(
-                    injectionPointTypeHierarchy.getResolver().getResolvedTypeVariables(),
-                    new HierarchyDiscovery(canonicalEventType).getResolver().getResolvedTypeVariables()).build();
-            resolvedType = objectTypeResolver.resolveType(canonicalEventType);
-        }
-        return resolvedType;
-    }
-
-    private void handleExceptions(ObserverExceptionHandler handler) {
+    private static void handleExceptions(ObserverExceptionHandler handler) {
         List<Throwable> handledExceptions = handler.getHandledExceptions();
         if (!handledExceptions.isEmpty()) {
             CompletionException exception = null;
@@ -216,6 +189,71 @@ class EventImpl<T> implements Event<T> {
         }
     }
 
+    /**
+     * The notifiers of an event, keyed by the runtime type of the event object.
+     * <p>
+     * The instances created for injection points are cached by the container, see
+     * {@link ArcContainerImpl#getNotifiers(Type, Set)}, and are dropped when the container is shut down.
+     */
+    static final class Notifiers<T> {
+
+        private final Type eventType;
+        private final Set<Annotation> qualifiers;
+        private final HierarchyDiscovery injectionPointTypeHierarchy;
+        private final ConcurrentMap<Class<?>, Notifier<? super T>> notifiers;
+
+        Notifiers(Type eventType, Set<Annotation> qualifiers) {
+            this.eventType = initEventType(eventType);
+            this.injectionPointTypeHierarchy = new HierarchyDiscovery(this.eventType);
+            this.qualifiers = qualifiers;
+            this.qualifiers.add(Any.Literal.INSTANCE);
+            this.notifiers = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
+        }
+
+        Notifier<? super T> get(Class<?> runtimeType) {
+            return notifiers.computeIfAbsent(runtimeType, this::createNotifier);
+        }
+
+        private Notifier<? super T> createNotifier(Class<?> runtimeType) {
+            Type eventType = getEventType(runtimeType);
+            return EventImpl.createNotifier(runtimeType, eventType, qualifiers, ArcContainerImpl.unwrap(Arc.container()));
+        }
+
+        private Type initEventType(Type type) {
+            if (type instanceof ParameterizedType) {
+                ParameterizedType parameterizedType = (ParameterizedType) type;
+                if (Event.class.isAssignableFrom(Types.getRawType(parameterizedType.getRawType()))) {
+                    return parameterizedType.getActualTypeArguments()[0];
+                }
+            }
+            return type;
+        }
+
+        private Type getEventType(Class<?> runtimeType) {
+            Type resolvedType = runtimeType;
+            if (Types.containsTypeVariable(resolvedType)) {
+                /*
+                 * If the container is unable to resolve the parameterized type of the event object, it uses the
+                 * specified type to infer the parameterized type of the event types.
+                 */
+                resolvedType = injectionPointTypeHierarchy.resolveType(resolvedType);
+            }
+            if (Types.containsTypeVariable(resolvedType)) {
+                /*
+                 * Examining the hierarchy of the specified type did not help. This may still be one of the cases when
+                 * combining the event type and the specified type reveals the actual values for type variables. Let's
+                 * try that.
+                 */
+                Type canonicalEventType = Types.getCanonicalType(runtimeType);
+                TypeResolver objectTypeResolver = new EventObjectTypeResolverBuilder(
+                        injectionPointTypeHierarchy.getResolver().getResolvedTypeVariables(),
+                        new HierarchyDiscovery(canonicalEventType).getResolver().getResolvedTypeVariables()).build();
+                resolvedType = objectTypeResolver.resolveType(canonicalEventType);
+            }
+            return resolvedType;
+        }
+    }
+
     static class Notifier<T> {
 
         private final Class<?> runtimeType;
@@ -223,6 +261,7 @@ class EventImpl<T> implements Event<T> {
         private final EventMetadata eventMetadata;
         private final boolean hasTxObservers;
         private final boolean activateRequestContext;
+        private volatile AsyncBatch<T> asyncBatch;
 
         Notifier(Class<?> runtimeType, List<ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata) {
             this(runtimeType, observerMethods, eventMetadata, true);
@@ -332,6 +371,19 @@ class EventImpl<T> implements Event<T> {
             return observerMethods.isEmpty();
         }
 
+        AsyncBatch<T> getAsyncBatch() {
+            AsyncBatch<T> batch = asyncBatch;
+            if (batch == null) {
+                synchronized (this) {
+                    batch = asyncBatch;
+                    if (batch == null) {
+                        asyncBatch = batch = new AsyncBatch<>(this);
+                    }
+                }
+            }
+            return batch;
+        }
+
         private boolean isTxObserver(ObserverMethod<?> observer) {
             return !observer.getTransactionPhase().equals(TransactionPhase.IN_PROGRESS);
         }
@@ -346,6 +398,77 @@ class EventImpl<T> implements Event<T> {
 
     }
 
+    /**
+     * Delivers the async events fired in a burst by a single executor task, instead of one task per event. The events
+     * are delivered in the order they were fired, each one with its own exception handling and completion stage.
+     */
+    static final class AsyncBatch<T> {
+
+        private final Notifier<T> notifier;
+        private final Queue<PendingEvent<T>> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        AsyncBatch(Notifier<T> notifier) {
+            this.notifier = notifier;
+        }
+
+        @SuppressWarnings("unchecked")
+        <U extends T> CompletableFuture<U> submit(U event, Executor executor) {
+            CompletableFuture<U> future = new CompletableFuture<>();
+            pending.add(new PendingEvent<>(event, (CompletableFuture<T>) future));
+            schedule(executor);
+            return future;
+        }
+
+        private void schedule(Executor executor) {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(() -> deliver(executor));
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                    PendingEvent<T> event;
+                    while ((event = pending.poll()) != null) {
+                        event.future.completeExceptionally(e);
+                    }
+                }
+            }
+        }
+
+        private void deliver(Executor executor) {
+            AsyncObserverExceptionHandler asyncExceptionHandler = Arc.container()
+                    .instance(AsyncObserverExceptionHandler.class).get();
+            PendingEvent<T> event;
+            int delivered = 0;
+            while (delivered++ < MAX_ASYNC_BATCH_SIZE && (event = pending.poll()) != null) {
+                try {
+                    ObserverExceptionHandler exceptionHandler = new CollectingExceptionHandler(new ArrayList<>(),
+                            asyncExceptionHandler);
+                    notifier.notify(event.event, exceptionHandler, true);
+                    handleExceptions(exceptionHandler);
+                    event.future.complete(event.event);
+                } catch (Throwable t) {
+                    event.future.completeExceptionally(t);
+                }
+            }
+            scheduled.set(false);
+            // an event may have been queued after the last poll but before the flag was reset
+            if (!pending.isEmpty()) {
+                schedule(executor);
+            }
+        }
+    }
+
+    static final class PendingEvent<T> {
+
+        final T event;
+        final CompletableFuture<T> future;
+
+        PendingEvent(T event, CompletableFuture<T> future) {
+            this.event = event;
+            this.future = future;
+        }
+    }
+
     static class EventContextImpl<T> implements EventContext<T> {
 
         private final T payload;
@@ -24,7 +24,8 @@ public class EventProvider<T> implements InjectableReferenceProvider<Event<T>> {
 
     @Override
     public Event<T> get(CreationalContext<Event<T>> creationalContext) {
-        return new EventImpl<>(eventType, eventQualifiers);
+        // the observers are resolved once per runtime type of the events fired through this injection point
+        return new EventImpl<>(ArcContainerImpl.instance().getNotifiers(eventType, eventQualifiers));
     }
 
 }
@@ -38,11 +38,11 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
     static <T> InstanceImpl<T> of(Type requiredType, Set<Annotation> requiredQualifiers) {
         return new InstanceImpl<>(null, null, requiredType, requiredQualifiers,
                 new CreationalContextImpl<>(null),
-                Collections.emptySet(), null, -1);
+                Collections.emptySet(), null, -1, null);
     }
 
     private final CreationalContextImpl<?> creationalContext;
-    private final List<InjectableBean<?>> resolvedBeans;
+    private final Resolution resolution;
 
     private final Type requiredType;
     private final Set<Annotation> requiredQualifiers;
@@ -58,25 +58,33 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
 
     InstanceImpl(InjectableBean<?> targetBean, Type type, Set<Annotation> qualifiers,
             CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position) {
-        this(targetBean, type, getRequiredType(type), qualifiers, creationalContext, annotations, javaMember, position);
+        this(targetBean, type, getRequiredType(type), qualifiers, creationalContext, annotations, javaMember, position,
+                null);
+    }
+
+    InstanceImpl(InjectableBean<?> targetBean, Type type, Set<Annotation> qualifiers,
+            CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position,
+            Resolution resolution) {
+        this(targetBean, type, getRequiredType(type), qualifiers, creationalContext, annotations, javaMember, position,
+                resolution);
     }
 
     private InstanceImpl(InstanceImpl<?> parent, Type requiredType, Set<Annotation> requiredQualifiers) {
         this(parent.targetBean, parent.injectionPointType, requiredType, requiredQualifiers, parent.creationalContext,
-                parent.annotations, parent.javaMember, parent.position);
+                parent.annotations, parent.javaMember, parent.position, null);
     }
 
     InstanceImpl(InjectableBean<?> targetBean, Type injectionPointType, Type requiredType, Set<Annotation> requiredQualifiers,
-            CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position) {
+            CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position,
+            Resolution resolution) {
         this.injectionPointType = injectionPointType;
         this.requiredType = requiredType;
         this.requiredQualifiers = requiredQualifiers != null ? requiredQualifiers : Collections.emptySet();
         this.creationalContext = creationalContext;
-        if (this.requiredQualifiers.isEmpty() && Object.class.equals(requiredType)) {
-            // Do not prefetch the beans for Instance<Object> with no qualifiers
-            this.resolvedBeans = null;
+        if (resolution != null) {
+            this.resolution = resolution;
         } else {
-            this.resolvedBeans = resolve();
+            this.resolution = Resolution.of(requiredType, this.requiredQualifiers);
         }
         this.targetBean = targetBean;
         this.annotations = annotations;
@@ -92,7 +100,14 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
 
     @Override
     public T get() {
-        return cachedGetResult != null ? cachedGetResult.get() : getInternal();
+        if (cachedGetResult != null) {
+            return cachedGetResult.get();
+        }
+        if (resolution.normalScopedBean != null) {
+            // There is no need to resolve the bean again, the client proxy can be used directly
+            return resolution.proxy();
+        }
+        return getInternal();
     }
 
     @Override
@@ -228,11 +243,61 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
     }
 
     private List<InjectableBean<?>> beans() {
-        return resolvedBeans != null ? resolvedBeans : resolve();
+        return resolution.beans != null ? resolution.beans : Instances.resolveBeans(requiredType, requiredQualifiers);
     }
 
-    private List<InjectableBean<?>> resolve() {
-        return Instances.resolveBeans(requiredType, requiredQualifiers);
+    /**
+     * The result of the resolution for a required type and qualifiers. It may be shared by all the instances created
+     * for an injection point, see {@link InstanceProvider}.
+     */
+    static final class Resolution {
+
+        // The beans are not prefetched but resolved each time they are needed
+        static final Resolution NOT_PREFETCHED = new Resolution(null);
+
+        /**
+         *
+         * @param requiredType
+         * @param requiredQualifiers
+         * @return the resolution, or {@link #NOT_PREFETCHED} if the beans should not be prefetched
+         */
+        static Resolution of(Type requiredType, Set<Annotation> requiredQualifiers) {
+            if (requiredQualifiers.isEmpty() && Object.class.equals(requiredType)) {
+                // Do not prefetch the beans for Instance<Object> with no qualifiers
+                return NOT_PREFETCHED;
+            }
+            return new Resolution(Instances.resolveBeans(requiredType, requiredQualifiers));
+        }
+
+        // null if the beans are not prefetched
+        final List<InjectableBean<?>> beans;
+
+        // The single resolved bean if it's normal scoped, null otherwise
+        final InjectableBean<?> normalScopedBean;
+
+        private volatile Object proxy;
+
+        private Resolution(List<InjectableBean<?>> beans) {
+            this.beans = beans;
+            if (beans != null && beans.size() == 1 && ArcContainerImpl.instance().isNormalScope(beans.get(0).getScope())) {
+                this.normalScopedBean = beans.get(0);
+            } else {
+                this.normalScopedBean = null;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T proxy() {
+            Object result = proxy;
+            if (result == null) {
+                // The client proxy of a normal scoped bean does not depend on the creational context nor the injection
+                // point, atomicity does not really matter here
+                result = normalScopedBean.get(new CreationalContextImpl<>(null));
+                proxy = result;
+            }
+            return (T) result;
+        }
+
     }
 
     class InstanceIterator implements Iterator<T> {
@@ -282,7 +347,7 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
 
     }
 
-    private static Type getRequiredType(Type type) {
+    static Type getRequiredType(Type type) {
         if (type instanceof ParameterizedType) {
             ParameterizedType parameterizedType = (ParameterizedType) type;
             if (Provider.class.isAssignableFrom(Types.getRawType(parameterizedType.getRawType()))) {
@@ -5,6 +5,7 @@ import io.quarkus.arc.InjectableReferenceProvider;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Member;
 import java.lang.reflect.Type;
+import java.util.Collections;
 import java.util.Set;
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.Instance;
@@ -21,6 +22,8 @@ public class InstanceProvider<T> implements InjectableReferenceProvider<Instance
     private final Set<Annotation> annotations;
     private final Member javaMember;
     private final int position;
+    // The resolution is shared by all the instances created for this injection point
+    private final LazyValue<InstanceImpl.Resolution> resolution;
 
     public InstanceProvider(Type type, Set<Annotation> qualifiers, InjectableBean<?> targetBean, Set<Annotation> annotations,
             Member javaMember, int position) {
@@ -30,6 +33,9 @@ public class InstanceProvider<T> implements InjectableReferenceProvider<Instance
         this.annotations = annotations;
         this.javaMember = javaMember;
         this.position = position;
+        this.resolution = new LazyValue<>(
+                () -> InstanceImpl.Resolution.of(InstanceImpl.getRequiredType(type),
+                        qualifiers != null ? qualifiers : Collections.emptySet()));
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -37,7 +43,7 @@ public class InstanceProvider<T> implements InjectableReferenceProvider<Instance
     public Instance<T> get(CreationalContext<Instance<T>> creationalContext) {
         InstanceImpl<T> instance = new InstanceImpl<T>(targetBean, requiredType, qualifiers,
                 CreationalContextImpl.unwrap(creationalContext),
-                annotations, javaMember, position);
+                annotations, javaMember, position, resolution.get());
         CreationalContextImpl.addDependencyToParent(InstanceBean.INSTANCE, instance,
                 (CreationalContext) creationalContext);
         return instance;
@@ -0,0 +1,77 @@
+package io.quarkus.arc.test.contexts.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ApplicationScopedClientProxyTest {
+
+    @RegisterExtension
+    ArcTestContainer container = new ArcTestContainer(Counter.class);
+
+    @Test
+    public void testDestroyedInstanceIsNotReused() {
+        Counter counter = Arc.container().instance(Counter.class).get();
+        assertTrue(counter instanceof ClientProxy);
+        String id = counter.getId();
+        assertEquals(id, counter.getId());
+        assertEquals(1, counter.increment());
+        assertEquals(2, counter.increment());
+
+        // Destroy the contextual instance through the proxy
+        Arc.container().select(Counter.class).destroy(counter);
+        assertEquals(1, Counter.DESTROYED.get());
+        String newId = counter.getId();
+        assertNotEquals(id, newId);
+        assertEquals(1, counter.increment());
+
+        // Destroy the contextual instance through the context
+        InjectableBean<Counter> bean = Arc.container().instance(Counter.class).getBean();
+        Arc.container().getActiveContext(ApplicationScoped.class).destroy(bean);
+        assertEquals(2, Counter.DESTROYED.get());
+        assertNotEquals(newId, counter.getId());
+        assertEquals(1, counter.increment());
+    }
+
+    @ApplicationScoped
+    static class Counter {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private String id;
+
+        private int count;
+
+        @PostConstruct
+        void init() {
+            id = UUID.randomUUID().toString();
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+        String getId() {
+            return id;
+        }
+
+        int increment() {
+            return ++count;
+        }
+
+    }
+
+}
@@ -0,0 +1,114 @@
+package io.quarkus.arc.test.instance.resolution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.UUID;
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class InstanceResolutionTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Client.class, Counter.class, Washcloth.class);
+
+    @Test
+    public void testNormalScopedBean() {
+        ArcContainer container = Arc.container();
+        InstanceHandle<Client> handle1 = container.instance(Client.class);
+        InstanceHandle<Client> handle2 = container.instance(Client.class);
+        Client client1 = handle1.get();
+        Client client2 = handle2.get();
+
+        // The client proxy is shared by all the instances created for the injection point
+        Counter counter = client1.counter.get();
+        assertTrue(counter instanceof ClientProxy);
+        assertSame(counter, client1.counter.get());
+        assertSame(counter, client2.counter.get());
+
+        // The client proxy still delegates to the contextual instance of the current request
+        container.requestContext().activate();
+        String id = counter.getId();
+        assertEquals(id, client2.counter.get().getId());
+        container.requestContext().terminate();
+        container.requestContext().activate();
+        assertNotEquals(id, counter.getId());
+        container.requestContext().terminate();
+
+        handle1.destroy();
+        handle2.destroy();
+    }
+
+    @Test
+    public void testDependentBean() {
+        Client client = Arc.container().instance(Client.class).get();
+        assertNotEquals(client.washcloth.get().getId(), client.washcloth.get().getId());
+        assertNotEquals(client.washcloth.get().getId(),
+                Arc.container().instance(Client.class).get().washcloth.get().getId());
+    }
+
+    @Test
+    public void testUnsatisfiedDefaultLookup() {
+        assertNull(Arc.container().instanceSupplier(Runnable.class));
+        assertFalse(Arc.container().instance(Runnable.class).isAvailable());
+        assertTrue(Arc.container().instance(Washcloth.class).isAvailable());
+    }
+
+    @Dependent
+    static class Client {
+
+        @Inject
+        Instance<Counter> counter;
+
+        @Inject
+        Instance<Washcloth> washcloth;
+
+    }
+
+    @RequestScoped
+    static class Counter {
+
+        private String id;
+
+        @PostConstruct
+        void init() {
+            this.id = UUID.randomUUID().toString();
+        }
+
+        String getId() {
+            return id;
+        }
+
+    }
+
+    @Dependent
+    static class Washcloth {
+
+        private String id;
+
+        @PostConstruct
+        void init() {
+            this.id = UUID.randomUUID().toString();
+        }
+
+        String getId() {
+            return id;
+        }
+
+    }
+
+}
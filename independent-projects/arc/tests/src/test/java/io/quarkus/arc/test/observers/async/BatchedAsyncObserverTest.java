@@ -0,0 +1,104 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ArcNotificationOptions;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.ObservesAsync;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class BatchedAsyncObserverTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(NumberProducer.class, NumberObserver.class);
+
+    @Test
+    public void testBatchedDelivery() throws InterruptedException, ExecutionException, TimeoutException {
+        ArcContainer container = Arc.container();
+        NumberProducer producer = container.instance(NumberProducer.class).get();
+        NumberObserver observer = container.instance(NumberObserver.class).get();
+
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            results.add(producer.produceAsync(i).toCompletableFuture());
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, results.get(i).get(10, TimeUnit.SECONDS));
+        }
+        // the events are delivered in the order they were fired
+        List<Integer> events = observer.getEvents();
+        assertEquals(1000, events.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, events.get(i));
+        }
+    }
+
+    @Test
+    public void testObserverFailureOnlyAffectsItsEvent() throws InterruptedException, TimeoutException {
+        NumberProducer producer = Arc.container().instance(NumberProducer.class).get();
+
+        CompletableFuture<Integer> failed = producer.produceAsync(-1).toCompletableFuture();
+        CompletableFuture<Integer> delivered = producer.produceAsync(1).toCompletableFuture();
+        try {
+            failed.join();
+        } catch (CompletionException expected) {
+            assertTrue(expected.getCause() instanceof IllegalArgumentException, expected.toString());
+        }
+        assertTrue(failed.isCompletedExceptionally());
+        assertEquals(1, delivered.join());
+    }
+
+    @Singleton
+    static class NumberObserver {
+
+        private List<Integer> events;
+
+        @PostConstruct
+        void init() {
+            events = new CopyOnWriteArrayList<>();
+        }
+
+        void observeAsync(@ObservesAsync Integer value) {
+            if (value < 0) {
+                throw new IllegalArgumentException("Negative value");
+            }
+            events.add(value);
+        }
+
+        List<Integer> getEvents() {
+            return events;
+        }
+
+    }
+
+    @Dependent
+    static class NumberProducer {
+
+        @Inject
+        Event<Integer> event;
+
+        CompletionStage<Integer> produceAsync(Integer value) {
+            return event.fireAsync(value, ArcNotificationOptions.batched());
+        }
+
+    }
+
+}